@@ -0,0 +1,57 @@
+package com.mukho.maskedstarcraft.security;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 요청마다 거치는 JWT 발급/검증. 캐시 적중과 서명 검증(캐시 없음)을 나눠 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "maskedstarcraft-secret-key-for-development-only-change-in-production";
+    private static final long EXPIRATION = 86400000L;
+
+    private JwtUtil cached;
+    private JwtUtil uncached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cached = new JwtUtil(SECRET, EXPIRATION, 1024);
+        uncached = new JwtUtil(SECRET, EXPIRATION, 0);
+        token = cached.generateToken("player1", "PLAYER");
+        cached.parse(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cached.generateToken("player1", "PLAYER");
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> parseCached() {
+        return cached.parse(token);
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> parseVerified() {
+        return uncached.parse(token);
+    }
+}
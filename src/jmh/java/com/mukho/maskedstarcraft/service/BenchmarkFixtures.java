@@ -0,0 +1,54 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.mukho.maskedstarcraft.entity.Map;
+import com.mukho.maskedstarcraft.entity.User;
+
+/**
+ * 벤치마크용 참가자/맵 데이터. 같은 크기면 항상 같은 데이터가 만들어진다.
+ */
+final class BenchmarkFixtures {
+
+    static final long SEED = 20240901L;
+
+    private static final String[] RACES = { "프로토스", "테란", "저그" };
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<User> players(int count) {
+        List<User> players = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            players.add(User.builder()
+                    .id((long) i)
+                    .name("참가자" + i)
+                    .nickname("player" + i)
+                    .password("1234")
+                    .race(RACES[i % RACES.length])
+                    .build());
+        }
+        return players;
+    }
+
+    static Map map() {
+        return Map.builder()
+                .id(1L)
+                .name("Fighting Spirit")
+                .build();
+    }
+
+    /**
+     * 라운드별로 현재 연승자가 이기는지 여부. 연승이 적당히 이어지도록 70% 확률로 연승자가 이긴다.
+     */
+    static boolean[] kingWins(int rounds) {
+        Random random = new Random(SEED);
+        boolean[] kingWins = new boolean[rounds];
+        for (int i = 0; i < rounds; i++) {
+            kingWins[i] = random.nextInt(10) < 7;
+        }
+        return kingWins;
+    }
+}
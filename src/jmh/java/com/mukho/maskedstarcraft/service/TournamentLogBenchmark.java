@@ -0,0 +1,76 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mukho.maskedstarcraft.entity.GameLog;
+import com.mukho.maskedstarcraft.entity.Map;
+import com.mukho.maskedstarcraft.entity.User;
+
+/**
+ * 대회 로그 파일의 경기 상세 부분 생성 (예전 LogService.generateLogContent의 본문).
+ * DB 조회 없이 경기 행 포맷팅 비용만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TournamentLogBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    private int rounds;
+
+    private List<GameLog> games;
+
+    @Setup
+    public void setUp() {
+        List<User> players = BenchmarkFixtures.players(rounds + 1);
+        Map map = BenchmarkFixtures.map();
+        boolean[] kingWins = BenchmarkFixtures.kingWins(rounds);
+
+        games = new ArrayList<>(rounds);
+        User king = players.get(0);
+        int streak = 0;
+        for (int round = 1; round <= rounds; round++) {
+            User challenger = players.get(round);
+            User winner = kingWins[round - 1] ? king : challenger;
+            streak = winner == king ? streak + 1 : 1;
+            games.add(GameLog.builder()
+                    .round(round)
+                    .player1(king)
+                    .player2(challenger)
+                    .winner(winner)
+                    .map(map)
+                    .winnerStreak(streak)
+                    .loserStreak(0)
+                    .build());
+            king = winner;
+        }
+    }
+
+    @Benchmark
+    public int writeGameRows() throws IOException {
+        StringWriter out = new StringWriter();
+        for (GameLog game : games) {
+            out.write(TournamentLogWriter.formatGameRow(game));
+        }
+        return out.getBuffer().length();
+    }
+}
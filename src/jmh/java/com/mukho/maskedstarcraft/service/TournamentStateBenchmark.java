@@ -0,0 +1,96 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mukho.maskedstarcraft.entity.Map;
+import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.entity.TournamentSummary;
+import com.mukho.maskedstarcraft.entity.User;
+
+/**
+ * 대회 진행 핫 패스: 도전자 순서 결정, 다음 도전자 꺼내기, 경기 결과마다의 연승/최다 연승자 갱신, 종료 요약.
+ * (예전 calculateWinStreak / calculateMaxStreakPlayers / findNextChallenger가 하던 일)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TournamentStateBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    private int rounds;
+
+    private List<User> players;
+    private Map map;
+    private boolean[] kingWins;
+    private LocalDateTime startedAt;
+    private TournamentState waitingState;
+
+    @Setup
+    public void setUp() {
+        // 첫 경기는 두 명, 이후 라운드마다 도전자 한 명
+        players = BenchmarkFixtures.players(rounds + 1);
+        map = BenchmarkFixtures.map();
+        kingWins = BenchmarkFixtures.kingWins(rounds);
+        startedAt = LocalDateTime.now();
+        waitingState = newState();
+    }
+
+    @Benchmark
+    public List<User> challengerOrder() {
+        return TournamentState.seededOrder(players, BenchmarkFixtures.SEED);
+    }
+
+    /**
+     * 대회 시작부터 종료 요약까지 전체 라운드 진행
+     */
+    @Benchmark
+    public TournamentSummary playTournament() {
+        TournamentState state = newState();
+        Random fallback = new Random(BenchmarkFixtures.SEED);
+        User king = state.pollChallenger().orElseThrow();
+        for (int round = 1; round <= rounds; round++) {
+            User challenger = state.pollChallenger().orElseThrow();
+            boolean challengerFirst = state.challengerFirst(round, fallback);
+            state.startMatch(new TournamentState.Match((long) round, round,
+                    challengerFirst ? challenger : king, challengerFirst ? king : challenger, map, startedAt));
+            User winner = kingWins[round - 1] ? king : challenger;
+            state.complete(winner.getId());
+            king = winner;
+        }
+        state.finish(king);
+        return state.summarize(null);
+    }
+
+    /**
+     * 대회 시작 직후 다음 도전자 미리보기와 참가 중인 플레이어 집합 (참가자 중복 배정 확인에 사용)
+     */
+    @Benchmark
+    public Set<Long> pendingPlayers() {
+        waitingState.getUpcomingChallengers(5);
+        return waitingState.getPendingPlayerIds();
+    }
+
+    private TournamentState newState() {
+        return new TournamentState(1L, null, startedAt, BenchmarkFixtures.SEED, Tournament.Status.IN_PROGRESS,
+                TournamentState.seededOrder(players, BenchmarkFixtures.SEED));
+    }
+}
@@ -0,0 +1,109 @@
+package com.mukho.maskedstarcraft.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JDK HttpClient로 REST API를 호출하고 엔드포인트별 응답 시간을 기록한다.
+ */
+class ApiClient {
+
+    private static final String ADMIN_NICKNAME = "admin";
+    private static final String ADMIN_PASSWORD = "admin123!";
+    private static final String[] RACES = { "프로토스", "테란", "저그" };
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private String adminToken;
+
+    ApiClient(int port) {
+        this.baseUrl = "http://localhost:" + port + "/api/v1";
+    }
+
+    HttpClient httpClient() {
+        return client;
+    }
+
+    URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    void loginAsAdmin() throws Exception {
+        JsonNode response = post("POST /auth/login", "/auth/login",
+                Map.of("nickname", ADMIN_NICKNAME, "password", ADMIN_PASSWORD), false);
+        adminToken = response.path("data").path("token").asText();
+    }
+
+    JsonNode registerPlayer(int index) throws Exception {
+        return post("POST /players", "/players", Map.of(
+                "name", "참가자" + index,
+                "nickname", "load-" + index,
+                "password", "1234",
+                "race", RACES[index % RACES.length]), false);
+    }
+
+    void createMaps() throws Exception {
+        for (String map : List.of("Fighting Spirit", "Circuit Breaker", "Polypoid")) {
+            post("POST /maps", "/maps", Map.of("name", map), true);
+        }
+    }
+
+    /**
+     * 관리자 권한 필요 여부에 따라 토큰을 붙여 POST하고, 200이 아니면 예외.
+     */
+    JsonNode post(String endpoint, String path, Object body, boolean admin) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (admin) {
+            builder.header("Authorization", "Bearer " + adminToken);
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            stats(endpoint).record(start, System.nanoTime(), false);
+            throw e;
+        }
+        boolean ok = response.statusCode() == 200;
+        stats(endpoint).record(start, System.nanoTime(), ok);
+        if (!ok) {
+            throw new IllegalStateException(endpoint + " returned " + response.statusCode() + ": "
+                    + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    EndpointStats stats(String endpoint) {
+        synchronized (stats) {
+            return stats.computeIfAbsent(endpoint, EndpointStats::new);
+        }
+    }
+
+    List<EndpointStats> allStats() {
+        synchronized (stats) {
+            return new ArrayList<>(stats.values());
+        }
+    }
+}
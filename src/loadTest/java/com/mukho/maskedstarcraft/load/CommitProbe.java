@@ -0,0 +1,35 @@
+package com.mukho.maskedstarcraft.load;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mukho.maskedstarcraft.dto.response.TournamentEvent;
+import com.mukho.maskedstarcraft.service.BroadcastMessage;
+
+/**
+ * 대회 이벤트가 커밋된 시각(System.nanoTime)을 순번별로 기록한다.
+ * 브로드캐스트 전송보다 먼저 실행되도록 가장 높은 우선순위로 등록한다.
+ */
+public class CommitProbe {
+
+    private final ConcurrentSkipListMap<Long, Long> commitNanos = new ConcurrentSkipListMap<>();
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBroadcast(BroadcastMessage message) {
+        if (message.getPayload() instanceof TournamentEvent event && message.getDestination().startsWith("/topic/tournaments/")) {
+            commitNanos.putIfAbsent(event.getSequence(), System.nanoTime());
+        }
+    }
+
+    long latestSequence() {
+        return commitNanos.isEmpty() ? 0 : commitNanos.lastKey();
+    }
+
+    Long commitNanos(long sequence) {
+        return commitNanos.get(sequence);
+    }
+}
@@ -0,0 +1,80 @@
+package com.mukho.maskedstarcraft.load;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트 하나의 응답 시간 분포(마이크로초)와 오류 수, 처리량 계산용 측정 구간.
+ */
+class EndpointStats {
+
+    // 1µs ~ 1분, 유효숫자 3자리
+    private static final long HIGHEST_TRACKABLE_MICROS = 60_000_000L;
+
+    private final String name;
+    private final Histogram histogram = new ConcurrentHistogram(1, HIGHEST_TRACKABLE_MICROS, 3);
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong firstStartNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastEndNanos = new AtomicLong();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void record(long startNanos, long endNanos, boolean success) {
+        long micros = Math.max(1, (endNanos - startNanos) / 1000);
+        histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.incrementAndGet();
+        }
+        firstStartNanos.accumulateAndGet(startNanos, Math::min);
+        lastEndNanos.accumulateAndGet(endNanos, Math::max);
+    }
+
+    long count() {
+        return histogram.getTotalCount();
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    /**
+     * 첫 요청 시작부터 마지막 응답까지의 초당 요청 수
+     */
+    double throughput() {
+        long elapsed = lastEndNanos.get() - firstStartNanos.get();
+        return elapsed > 0 ? count() * 1_000_000_000.0 / elapsed : 0;
+    }
+
+    double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double maxMillis() {
+        return histogram.getMaxValue() / 1000.0;
+    }
+
+    /**
+     * HdrHistogram 백분위 분포 파일(.hgrm, 밀리초 단위)을 쓴다. HistogramLogAnalyzer 등으로 그릴 수 있다.
+     */
+    Path writeDistribution(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(name.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm");
+        try (PrintStream out = new PrintStream(new FileOutputStream(file.toFile()), true, "UTF-8")) {
+            histogram.outputPercentileDistribution(out, 5, 1000.0);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,160 @@
+package com.mukho.maskedstarcraft.load;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 대회 당일 밤을 한 프로세스 안에서 재현하는 부하 생성기.
+ * H2 위에 애플리케이션을 띄우고, 참가자 N명이 동시에 신청한 뒤 대회를 시작해 경기 결과를 끝까지 입력한다.
+ * 그동안 관전자 M명이 /tournaments/current를 계속 조회하며, 엔드포인트별 지연 분포와 처리량을 출력한다.
+ *
+ * 설정 (시스템 속성): loadtest.players, loadtest.spectators, loadtest.think-ms, loadtest.etag, loadtest.report-dir,
+ * loadtest.app-args (애플리케이션 설정 덮어쓰기)
+ */
+public class EventNightLoadTest {
+
+    private final int players = Integer.getInteger("loadtest.players", 200);
+    private final int spectators = Integer.getInteger("loadtest.spectators", 200);
+    private final long thinkMs = Long.getLong("loadtest.think-ms", 100);
+    private final boolean useEtag = Boolean.parseBoolean(System.getProperty("loadtest.etag", "true"));
+    private final Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+
+    private ApiClient api;
+
+    public static void main(String[] args) throws Exception {
+        new EventNightLoadTest().run();
+    }
+
+    private void run() throws Exception {
+        ConfigurableApplicationContext context = LoadTestApplication.start(List.of(), LoadTestApplication.appArgs());
+        try {
+            int port = LoadTestApplication.port(context);
+            api = new ApiClient(port);
+            System.out.printf("App started on port %d (players=%d, spectators=%d, think=%dms, etag=%s)%n",
+                    port, players, spectators, thinkMs, useEtag);
+
+            api.loginAsAdmin();
+            registerPlayers();
+            api.createMaps();
+            runTournament();
+            report();
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 신청 시작 직후처럼 참가자가 한꺼번에 몰리는 상황
+     */
+    private void registerPlayers() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(players, 64));
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 1; i <= players; i++) {
+            int index = i;
+            futures.add(pool.submit(() -> api.registerPlayer(index)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        System.out.printf("Registered %d players%n", players);
+    }
+
+    private void runTournament() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService spectatorPool = Executors.newFixedThreadPool(spectators);
+        for (int i = 0; i < spectators; i++) {
+            spectatorPool.submit(() -> spectate(running));
+        }
+
+        try {
+            JsonNode tournament = api.post("POST /tournaments/start", "/tournaments/start", null, true).path("data");
+            int games = 0;
+            while ("IN_PROGRESS".equals(tournament.path("status").asText())) {
+                JsonNode game = tournament.path("currentGame");
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("winnerId", game.path("player1").path("id").asLong());
+                result.put("round", game.path("round").asInt());
+                tournament = api.post("POST /games/result", "/games/result", result, true).path("data");
+                games++;
+            }
+            System.out.printf("Tournament finished after %d games%n", games);
+        } finally {
+            running.set(false);
+            spectatorPool.shutdown();
+            spectatorPool.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 관전 화면 한 개: ETag가 있으면 조건부로 조회하고, 조회 사이에 think-ms만큼 쉰다.
+     */
+    private void spectate(AtomicBoolean running) {
+        EndpointStats stats = api.stats("GET /tournaments/current");
+        String etag = null;
+        while (running.get()) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(api.uri("/tournaments/current"))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET();
+            if (useEtag && etag != null) {
+                builder.header("If-None-Match", etag);
+            }
+            long start = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = api.httpClient()
+                        .send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+                boolean ok = response.statusCode() == 200 || response.statusCode() == 304;
+                stats.record(start, System.nanoTime(), ok);
+                etag = response.headers().firstValue("ETag").orElse(etag);
+            } catch (IOException e) {
+                stats.record(start, System.nanoTime(), false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (thinkMs > 0) {
+                try {
+                    Thread.sleep(thinkMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void report() throws IOException {
+        List<EndpointStats> all = api.allStats();
+
+        System.out.println();
+        System.out.printf("%-28s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (EndpointStats endpoint : all) {
+            System.out.printf("%-28s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.getName(), endpoint.count(), endpoint.errors(), endpoint.throughput(),
+                    endpoint.percentileMillis(50), endpoint.percentileMillis(90), endpoint.percentileMillis(99),
+                    endpoint.percentileMillis(99.9), endpoint.maxMillis());
+        }
+        for (EndpointStats endpoint : all) {
+            endpoint.writeDistribution(reportDir);
+        }
+        System.out.println();
+        System.out.println("Percentile distributions (.hgrm) written to " + reportDir.toAbsolutePath());
+    }
+}
@@ -0,0 +1,57 @@
+package com.mukho.maskedstarcraft.load;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.mukho.maskedstarcraft.MaskedstarcraftApplication;
+
+/**
+ * 부하 측정용으로 애플리케이션을 H2 메모리 DB와 임의 포트로 띄운다.
+ */
+final class LoadTestApplication {
+
+    private LoadTestApplication() {
+    }
+
+    /**
+     * extraSources는 측정용 빈, extraArgs는 튜닝할 설정 (--key=value).
+     */
+    static ConfigurableApplicationContext start(List<Class<?>> extraSources, List<String> extraArgs) {
+        // application.properties보다 우선하도록 명령행 인자로 전달
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.profiles.active=loadtest",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.mukho.maskedstarcraft=WARN",
+                "--logging.level.org.springframework.security=WARN"));
+        args.addAll(extraArgs);
+
+        List<Class<?>> sources = new ArrayList<>();
+        sources.add(MaskedstarcraftApplication.class);
+        sources.addAll(extraSources);
+        return SpringApplication.run(sources.toArray(Class<?>[]::new), args.toArray(String[]::new));
+    }
+
+    static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    /**
+     * -PappArgs로 넘긴 추가 설정 (공백 구분)
+     */
+    static List<String> appArgs() {
+        String value = System.getProperty("loadtest.app-args", "").trim();
+        return value.isEmpty() ? List.of() : List.of(value.split("\\s+"));
+    }
+}
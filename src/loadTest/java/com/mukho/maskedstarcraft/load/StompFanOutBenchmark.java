@@ -0,0 +1,236 @@
+package com.mukho.maskedstarcraft.load;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.websocket.ContainerProvider;
+import jakarta.websocket.WebSocketContainer;
+
+/**
+ * STOMP 브로드캐스트 팬아웃 측정.
+ * 로컬 STOMP 세션 수천 개로 /ws에 접속해 대회 토픽을 구독한 뒤, 경기 결과를 한 라운드씩 기록하며
+ * 커밋 시점부터 마지막 구독자가 받을 때까지의 시간과 세션당 메모리를 잰다.
+ * 서버와 클라이언트가 같은 JVM/CPU를 쓰므로 지연과 메모리 모두 클라이언트 몫이 포함된 상한값이다.
+ *
+ * 설정 (시스템 속성): loadtest.sessions, loadtest.rounds, loadtest.report-dir, loadtest.app-args
+ */
+public class StompFanOutBenchmark {
+
+    private static final int CONNECT_CONCURRENCY = 50;
+    private static final long DELIVERY_TIMEOUT_MS = 30_000;
+
+    private final int sessions = Integer.getInteger("loadtest.sessions", 1000);
+    private final int rounds = Integer.getInteger("loadtest.rounds", 20);
+    private final Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+
+    // 순번 -> 구독자별 수신 시각
+    private final Map<Long, ConcurrentLinkedQueue<Long>> arrivals = new ConcurrentHashMap<>();
+
+    public static void main(String[] args) throws Exception {
+        new StompFanOutBenchmark().run();
+    }
+
+    private void run() throws Exception {
+        ConfigurableApplicationContext context = LoadTestApplication.start(List.of(CommitProbe.class),
+                LoadTestApplication.appArgs());
+        List<StompSession> connected = new ArrayList<>();
+        try {
+            int port = LoadTestApplication.port(context);
+            CommitProbe probe = context.getBean(CommitProbe.class);
+            ApiClient api = new ApiClient(port);
+            System.out.printf("App started on port %d (sessions=%d, rounds=%d, args=%s)%n",
+                    port, sessions, rounds, LoadTestApplication.appArgs());
+
+            api.loginAsAdmin();
+            for (int i = 1; i <= rounds + 1; i++) {
+                api.registerPlayer(i);
+            }
+            api.createMaps();
+            JsonNode tournament = api.post("POST /tournaments/start", "/tournaments/start", null, true).path("data");
+            long tournamentId = tournament.path("id").asLong();
+
+            long heapBefore = usedHeapAfterGc();
+            long connectStart = System.nanoTime();
+            connected.addAll(connect(port, tournamentId));
+            long connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStart);
+            // SUBSCRIBE 프레임이 브로커에 등록될 시간
+            Thread.sleep(2000);
+            long heapAfter = usedHeapAfterGc();
+            System.out.printf("Connected %d sessions in %d ms, heap +%.1f MB (%.1f KB/session, client+server)%n",
+                    connected.size(), connectMillis, (heapAfter - heapBefore) / 1048576.0,
+                    (heapAfter - heapBefore) / 1024.0 / Math.max(1, connected.size()));
+
+            Histogram deliveryLatency = new Histogram(1, TimeUnit.MINUTES.toMicros(1), 3);
+            Histogram fanOutLatency = new Histogram(1, TimeUnit.MINUTES.toMicros(1), 3);
+            long missed = 0;
+
+            System.out.printf("%n%5s %9s %10s %10s%n", "round", "received", "first(ms)", "last(ms)");
+            for (int round = 1; round <= rounds && "IN_PROGRESS".equals(tournament.path("status").asText()); round++) {
+                long previous = probe.latestSequence();
+                JsonNode game = tournament.path("currentGame");
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("winnerId", game.path("player1").path("id").asLong());
+                result.put("round", game.path("round").asInt());
+                tournament = api.post("POST /games/result", "/tournaments/" + tournamentId + "/games/result", result, true)
+                        .path("data");
+
+                long sequence = probe.latestSequence();
+                if (sequence == previous) {
+                    throw new IllegalStateException("No tournament event committed for round " + round);
+                }
+                long commit = probe.commitNanos(sequence);
+                ConcurrentLinkedQueue<Long> received = awaitDeliveries(sequence, connected.size());
+
+                long first = Long.MAX_VALUE;
+                long last = 0;
+                for (long arrival : received) {
+                    long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(arrival - commit));
+                    deliveryLatency.recordValue(Math.min(micros, deliveryLatency.getHighestTrackableValue()));
+                    first = Math.min(first, arrival);
+                    last = Math.max(last, arrival);
+                }
+                missed += connected.size() - received.size();
+                if (!received.isEmpty()) {
+                    fanOutLatency.recordValue(Math.max(1, Math.min(TimeUnit.NANOSECONDS.toMicros(last - commit),
+                            fanOutLatency.getHighestTrackableValue())));
+                }
+                System.out.printf("%5d %9d %10.2f %10.2f%n", round, received.size(),
+                        received.isEmpty() ? 0 : (first - commit) / 1e6, received.isEmpty() ? 0 : (last - commit) / 1e6);
+            }
+
+            System.out.println();
+            System.out.printf("commit -> last delivery per round : p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                    fanOutLatency.getValueAtPercentile(50) / 1000.0, fanOutLatency.getValueAtPercentile(99) / 1000.0,
+                    fanOutLatency.getMaxValue() / 1000.0);
+            System.out.printf("commit -> each delivery            : p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms (%d deliveries, %d missed)%n",
+                    deliveryLatency.getValueAtPercentile(50) / 1000.0, deliveryLatency.getValueAtPercentile(99) / 1000.0,
+                    deliveryLatency.getValueAtPercentile(99.9) / 1000.0, deliveryLatency.getTotalCount(), missed);
+            writeDistribution(deliveryLatency);
+        } finally {
+            connected.forEach(session -> {
+                try {
+                    session.disconnect();
+                } catch (Exception ignored) {
+                    // 종료 중
+                }
+            });
+            context.close();
+        }
+    }
+
+    private List<StompSession> connect(int port, long tournamentId) throws Exception {
+        WebSocketContainer container = ContainerProvider.getWebSocketContainer();
+        container.setDefaultMaxTextMessageBufferSize(16 * 1024);
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient(container));
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+
+        // SockJS 엔드포인트의 순수 WebSocket 전송
+        String url = "ws://localhost:" + port + "/ws/websocket";
+        String topic = "/topic/tournaments/" + tournamentId;
+        Semaphore inFlight = new Semaphore(CONNECT_CONCURRENCY);
+        List<CompletableFuture<StompSession>> futures = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            inFlight.acquire();
+            CompletableFuture<StompSession> future = stompClient.connectAsync(url, new StompSessionHandlerAdapter() {
+                    })
+                    .whenComplete((session, error) -> inFlight.release());
+            futures.add(future.thenApply(session -> {
+                session.subscribe(topic, new DeliveryHandler());
+                return session;
+            }));
+        }
+
+        List<StompSession> connected = new ArrayList<>(sessions);
+        for (CompletableFuture<StompSession> future : futures) {
+            try {
+                connected.add(future.get(30, TimeUnit.SECONDS));
+            } catch (Exception e) {
+                System.out.println("Session failed to connect: " + e.getMessage());
+            }
+        }
+        return connected;
+    }
+
+    private ConcurrentLinkedQueue<Long> awaitDeliveries(long sequence, int expected) throws InterruptedException {
+        ConcurrentLinkedQueue<Long> received = arrivals.computeIfAbsent(sequence, key -> new ConcurrentLinkedQueue<>());
+        long deadline = System.currentTimeMillis() + DELIVERY_TIMEOUT_MS;
+        while (received.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        return received;
+    }
+
+    private long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private void writeDistribution(Histogram histogram) throws Exception {
+        Files.createDirectories(reportDir);
+        Path file = reportDir.resolve("stomp_fanout_delivery.hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, 5, 1000.0);
+        }
+        System.out.println("Delivery latency distribution written to " + file.toAbsolutePath());
+    }
+
+    /**
+     * 구독자 한 명. 본문 전체를 파싱하지 않고 "sequence" 값만 읽어 수신 시각을 남긴다.
+     */
+    private class DeliveryHandler implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long now = System.nanoTime();
+            long sequence = sequenceOf((byte[]) payload);
+            if (sequence > 0) {
+                arrivals.computeIfAbsent(sequence, key -> new ConcurrentLinkedQueue<>()).add(now);
+            }
+        }
+
+        private long sequenceOf(byte[] body) {
+            String json = new String(body, StandardCharsets.UTF_8);
+            int index = json.indexOf("\"sequence\":");
+            if (index < 0) {
+                return -1;
+            }
+            long value = 0;
+            for (int i = index + "\"sequence\":".length(); i < json.length() && Character.isDigit(json.charAt(i)); i++) {
+                value = value * 10 + (json.charAt(i) - '0');
+            }
+            return value;
+        }
+    }
+}
@@ -2,6 +2,12 @@ package com.mukho.maskedstarcraft.config;
 
 import com.mukho.maskedstarcraft.entity.User;
 import com.mukho.maskedstarcraft.repository.UserRepository;
+import com.mukho.maskedstarcraft.service.GameLogStreakBackfill;
+import com.mukho.maskedstarcraft.service.MapStatsService;
+import com.mukho.maskedstarcraft.service.NicknameIndex;
+import com.mukho.maskedstarcraft.service.PlayerStatsService;
+import com.mukho.maskedstarcraft.service.TournamentStateEngine;
+import com.mukho.maskedstarcraft.service.TournamentSummaryBackfill;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -18,10 +24,22 @@ import java.util.Properties;
 public class DataLoader implements CommandLineRunner {
     
     private final UserRepository userRepository;
+    private final GameLogStreakBackfill gameLogStreakBackfill;
+    private final TournamentSummaryBackfill tournamentSummaryBackfill;
+    private final TournamentStateEngine tournamentStateEngine;
+    private final PlayerStatsService playerStatsService;
+    private final MapStatsService mapStatsService;
+    private final NicknameIndex nicknameIndex;
     
     @Override
     public void run(String... args) throws Exception {
         createAdminIfNotExists();
+        nicknameIndex.rebuild();
+        gameLogStreakBackfill.backfill();
+        tournamentSummaryBackfill.backfill();
+        tournamentStateEngine.rebuild();
+        playerStatsService.loadLeaderboard();
+        mapStatsService.rebuild();
         log.info("Application startup completed");
     }
     
@@ -2,6 +2,7 @@ package com.mukho.maskedstarcraft.config;
 
 import java.util.Arrays;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -17,6 +18,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.mukho.maskedstarcraft.security.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -26,6 +29,10 @@ public class SecurityConfig {
     
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     
+    // Actuator 전용 포트 (설정하지 않으면 -1, Actuator는 관리자만)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+    
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new PasswordEncoder() {
@@ -48,11 +55,18 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // 스트리밍 응답(로그 다운로드)의 비동기 디스패치 - 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                
                 // Public endpoints - 인증 불필요
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/v1/players").permitAll()        // 참가 신청
                 .requestMatchers(HttpMethod.GET, "/api/v1/players").permitAll()         // 참가자 목록 조회
-                .requestMatchers(HttpMethod.GET, "/api/v1/tournaments/current").permitAll() // 현재 대회 정보 조회
+                .requestMatchers(HttpMethod.GET, "/api/v1/players/intake/{ticketId}").permitAll() // 참가 신청 접수 상태
+                .requestMatchers(HttpMethod.GET, "/api/v1/players/{playerId}/stats", "/api/v1/players/leaderboard").permitAll() // 통산 기록, 순위
+                .requestMatchers(HttpMethod.GET, "/api/v1/tournaments/current", "/api/v1/tournaments/current/upcoming",
+                        "/api/v1/tournaments/active", "/api/v1/tournaments/{tournamentId}",
+                        "/api/v1/tournaments/{tournamentId}/upcoming").permitAll() // 대회 정보, 다음 도전자 조회
                 .requestMatchers("/ws/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()                 // CORS OPTIONS 요청 허용
@@ -62,12 +76,17 @@ public class SecurityConfig {
                 
                 // Admin only endpoints
                 .requestMatchers(HttpMethod.POST, "/api/v1/tournaments/start").hasRole("ADMIN")
-                .requestMatchers(HttpMethod.POST, "/api/v1/games/result").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/v1/players/import").hasRole("ADMIN")        // 참가자 일괄 등록
+                .requestMatchers(HttpMethod.POST, "/api/v1/games/result", "/api/v1/tournaments/{tournamentId}/games/result").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/v1/players/{playerId}").hasRole("ADMIN")  // 특정 플레이어 삭제 (관리자만)
                 .requestMatchers(HttpMethod.DELETE, "/api/v1/players").hasRole("ADMIN")            // 모든 플레이어 삭제 (관리자만)
                 .requestMatchers("/api/v1/maps/**").hasRole("ADMIN")
                 .requestMatchers("/api/v1/logs/**").hasRole("ADMIN")
                 
+                // Actuator - 관리 포트를 따로 열면 그 포트(내부망에서만 접근)로 들어온 요청은 Prometheus 수집용으로 허용
+                .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort).permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
@@ -84,6 +103,7 @@ public class SecurityConfig {
         configuration.setAllowedOriginPatterns(Arrays.asList("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("ETag", "X-Roster-Version"));  // 조건부 GET용
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,113 @@
+package com.mukho.maskedstarcraft.config;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청마다 실행된 SQL 문 수를 세어 엔드포인트별 예산과 비교한다.
+ * 예산을 넘거나 같은 문이 반복 실행되면(N+1 의심) 경고 로그와 지표를 남긴다.
+ * 스트리밍 응답 본문처럼 다른 스레드에서 실행되는 문은 세지 않는다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+    private final int repeatThreshold;
+    // "GET /api/v1/tournaments/{tournamentId}" -> 예산
+    private final Map<String, Integer> budgets = new HashMap<>();
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry,
+                                    @Value("${sql.budget.default:20}") int defaultBudget,
+                                    @Value("${sql.budget.repeat-threshold:5}") int repeatThreshold,
+                                    @Value("${sql.budget.endpoints:}") List<String> endpointBudgets) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+        this.repeatThreshold = repeatThreshold;
+        for (String entry : endpointBudgets) {
+            int separator = entry.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("sql.budget.endpoints 형식은 'METHOD /경로=예산'입니다: " + entry);
+            }
+            budgets.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+        }
+    }
+
+    /**
+     * 엔드포인트("METHOD 경로 패턴")의 SQL 문 예산. 따로 정하지 않았으면 기본 예산.
+     */
+    public int budgetOf(String endpoint) {
+        return budgets.getOrDefault(endpoint, defaultBudget);
+    }
+
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                check(request.getMethod(), pattern.toString(), scope);
+            }
+        }
+    }
+
+    private void check(String method, String uri, SqlStatementCounter.Scope scope) {
+        String endpoint = method + " " + uri;
+        int statements = scope.getStatements();
+        DistributionSummary.builder("sql.statements")
+                .description("요청 하나에서 실행된 SQL 문 수")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+
+        int budget = budgetOf(endpoint);
+        log.debug("{} executed {} SQL statements", endpoint, statements);
+        if (statements > budget) {
+            log.warn("{} executed {} SQL statements (budget {})", endpoint, statements, budget);
+            Counter.builder("sql.statements.budget.exceeded")
+                    .description("SQL 문 예산을 넘은 요청 수")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        int repeats = scope.getMaxRepeats();
+        if (repeats >= repeatThreshold) {
+            log.warn("{} repeated the same SQL statement {} times (possible N+1): {}", endpoint, repeats,
+                    scope.getMostRepeatedStatement());
+            Counter.builder("sql.statements.repeated")
+                    .description("같은 SQL 문이 반복 실행된(N+1 의심) 요청 수")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
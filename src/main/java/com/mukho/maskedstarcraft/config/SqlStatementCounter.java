@@ -0,0 +1,86 @@
+package com.mukho.maskedstarcraft.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 문을 현재 스레드의 측정 구간별로 센다.
+ * hibernate.session_factory.statement_inspector로 등록되며, 열린 구간이 없으면 아무 일도 하지 않는다.
+ * JdbcTemplate으로 직접 실행하는 문(참가자 일괄 등록)은 세지 않는다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.record(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 측정을 시작한다. 구간은 중첩될 수 있고, 안쪽 구간의 문은 바깥 구간에도 더해진다.
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int statements;
+        // SQL -> 실행 횟수 (같은 문이 반복되면 N+1 의심)
+        private final Map<String, Integer> executions = new HashMap<>();
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String sql) {
+            if (!closed) {
+                statements++;
+                executions.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        /**
+         * 가장 많이 반복된 문의 실행 횟수 (문이 없으면 0)
+         */
+        public int getMaxRepeats() {
+            return executions.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        public String getMostRepeatedStatement() {
+            return executions.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+}
@@ -1,21 +1,50 @@
 package com.mukho.maskedstarcraft.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     
+    // 구독자에게 메시지를 쓰는 스레드 수 (0이면 Spring 기본값: CPU 수 x 2)
+    @Value("${websocket.outbound.pool-size:0}")
+    private int outboundPoolSize;
+    
+    // 느린 클라이언트 한 명에게 보낼 메시지가 쌓일 수 있는 시간/크기, 넘으면 세션을 닫음
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+    
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+    
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic");
         config.setApplicationDestinationPrefixes("/app");
     }
     
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (outboundPoolSize > 0) {
+            registration.taskExecutor()
+                    .corePoolSize(outboundPoolSize)
+                    .maxPoolSize(outboundPoolSize);
+        }
+    }
+    
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit);
+    }
+    
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
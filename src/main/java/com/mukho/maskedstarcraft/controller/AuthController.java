@@ -4,13 +4,18 @@ import com.mukho.maskedstarcraft.dto.request.ApplyRequest;
 import com.mukho.maskedstarcraft.dto.request.LoginRequest;
 import com.mukho.maskedstarcraft.dto.response.ApiResponse;
 import com.mukho.maskedstarcraft.dto.response.LoginResponse;
+import com.mukho.maskedstarcraft.dto.response.NicknameAvailabilityResponse;
+import com.mukho.maskedstarcraft.dto.response.RegistrationTicketResponse;
 import com.mukho.maskedstarcraft.service.AuthService;
+import com.mukho.maskedstarcraft.service.RegistrationIntakeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
@@ -18,13 +23,27 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
     
     private final AuthService authService;
+    private final RegistrationIntakeService registrationIntakeService;
     
     @PostMapping("/apply")
-    public ResponseEntity<ApiResponse<Void>> apply(@Valid @RequestBody ApplyRequest request) {
+    public ResponseEntity<ApiResponse<RegistrationTicketResponse>> apply(@Valid @RequestBody ApplyRequest request) {
+        if (registrationIntakeService.isEnabled()) {
+            // 접수 대기열 모드: 202와 접수 번호, 결과는 /api/v1/players/intake/{ticketId}로 확인
+            RegistrationTicketResponse ticket = registrationIntakeService.submit(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/players/intake/" + ticket.getTicketId()))
+                    .body(ApiResponse.success("참가 신청이 접수되었습니다.", ticket));
+        }
         authService.apply(request);
         return ResponseEntity.ok(ApiResponse.success("참가 신청이 완료되었습니다.", null));
     }
     
+    @GetMapping("/nickname-available")
+    public ResponseEntity<ApiResponse<NicknameAvailabilityResponse>> checkNickname(@RequestParam(required = false) String nickname) {
+        NicknameAvailabilityResponse response = authService.checkNickname(nickname);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
         LoginResponse response = authService.login(request);
@@ -1,14 +1,16 @@
 package com.mukho.maskedstarcraft.controller;
 
 import com.mukho.maskedstarcraft.dto.response.ApiResponse;
+import com.mukho.maskedstarcraft.dto.response.CursorPageResponse;
 import com.mukho.maskedstarcraft.dto.response.TournamentLogResponse;
+import com.mukho.maskedstarcraft.dto.response.TournamentLogSummaryResponse;
 import com.mukho.maskedstarcraft.service.LogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -22,8 +24,10 @@ public class LogController {
     private final LogService logService;
     
     @GetMapping("/tournaments")
-    public ResponseEntity<ApiResponse<List<TournamentLogResponse>>> getAllTournamentLogs() {
-        List<TournamentLogResponse> logs = logService.getAllTournamentLogs();
+    public ResponseEntity<ApiResponse<CursorPageResponse<TournamentLogSummaryResponse>>> getTournamentLogs(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<TournamentLogSummaryResponse> logs = logService.getTournamentLogs(cursor, size);
         return ResponseEntity.ok(ApiResponse.success(logs));
     }
     
@@ -34,7 +38,13 @@ public class LogController {
     }
     
     @GetMapping("/tournaments/{tournamentId}/download")
-    public ResponseEntity<Resource> downloadTournamentLog(@PathVariable Long tournamentId) {
+    public ResponseEntity<StreamingResponseBody> downloadTournamentLog(@PathVariable Long tournamentId) {
         return logService.downloadTournamentLog(tournamentId);
     }
+    
+    @GetMapping("/tournaments/download")
+    public ResponseEntity<StreamingResponseBody> downloadTournamentLogs(
+            @RequestParam(required = false) List<Long> ids) {
+        return logService.downloadTournamentLogs(ids);
+    }
 }
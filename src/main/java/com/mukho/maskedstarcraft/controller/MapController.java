@@ -3,7 +3,9 @@ package com.mukho.maskedstarcraft.controller;
 import com.mukho.maskedstarcraft.dto.request.MapCreateRequest;
 import com.mukho.maskedstarcraft.dto.response.ApiResponse;
 import com.mukho.maskedstarcraft.dto.response.MapResponse;
+import com.mukho.maskedstarcraft.dto.response.MapStatsResponse;
 import com.mukho.maskedstarcraft.service.MapService;
+import com.mukho.maskedstarcraft.service.MapStatsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +23,7 @@ import java.util.List;
 public class MapController {
     
     private final MapService mapService;
+    private final MapStatsService mapStatsService;
     
     @PostMapping
     public ResponseEntity<ApiResponse<MapResponse>> createMap(@Valid @RequestBody MapCreateRequest request) {
@@ -34,6 +37,12 @@ public class MapController {
         return ResponseEntity.ok(ApiResponse.success(maps));
     }
     
+    @GetMapping("/{mapId}/stats")
+    public ResponseEntity<ApiResponse<MapStatsResponse>> getMapStats(@PathVariable Long mapId) {
+        MapStatsResponse stats = mapStatsService.getMapStats(mapId);
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+    
     @DeleteMapping("/{mapId}")
     public ResponseEntity<ApiResponse<Void>> deleteMap(@PathVariable Long mapId) {
         mapService.deleteMap(mapId);
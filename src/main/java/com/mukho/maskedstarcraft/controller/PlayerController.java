@@ -1,7 +1,12 @@
 package com.mukho.maskedstarcraft.controller;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,13 +15,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.mukho.maskedstarcraft.dto.request.ApplyRequest;
 import com.mukho.maskedstarcraft.dto.response.ApiResponse;
-import com.mukho.maskedstarcraft.dto.response.PlayerResponse;
+import com.mukho.maskedstarcraft.dto.response.PlayerImportResponse;
+import com.mukho.maskedstarcraft.dto.response.PlayerStatsResponse;
+import com.mukho.maskedstarcraft.dto.response.RegistrationTicketResponse;
 import com.mukho.maskedstarcraft.service.AuthService;
+import com.mukho.maskedstarcraft.service.PlayerImportService;
 import com.mukho.maskedstarcraft.service.PlayerService;
+import com.mukho.maskedstarcraft.service.PlayerStatsService;
+import com.mukho.maskedstarcraft.service.RegistrationIntakeService;
+import com.mukho.maskedstarcraft.service.ResponseSnapshot;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,17 +41,70 @@ public class PlayerController {
     
     private final PlayerService playerService;
     private final AuthService authService;
+    private final PlayerStatsService playerStatsService;
+    private final PlayerImportService playerImportService;
+    private final RegistrationIntakeService registrationIntakeService;
+    
+    private static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
     
     @PostMapping
-    public ResponseEntity<ApiResponse<Void>> applyPlayer(@RequestBody ApplyRequest request) {
+    public ResponseEntity<ApiResponse<RegistrationTicketResponse>> applyPlayer(@RequestBody ApplyRequest request) {
+        if (registrationIntakeService.isEnabled()) {
+            RegistrationTicketResponse ticket = registrationIntakeService.submit(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/players/intake/" + ticket.getTicketId()))
+                    .body(ApiResponse.success("참가 신청이 접수되었습니다.", ticket));
+        }
         authService.apply(request);
         return ResponseEntity.ok(ApiResponse.success("참가 신청이 완료되었습니다.", null));
     }
     
+    @GetMapping("/intake/{ticketId}")
+    public ResponseEntity<ApiResponse<RegistrationTicketResponse>> getIntakeTicket(@PathVariable String ticketId) {
+        RegistrationTicketResponse ticket = registrationIntakeService.getTicket(ticketId);
+        return ResponseEntity.ok(ApiResponse.success(ticket));
+    }
+    
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PlayerImportResponse>> importPlayers(@RequestBody List<ApplyRequest> requests) {
+        PlayerImportResponse response = playerImportService.importJson(requests);
+        return ResponseEntity.ok(ApiResponse.success(response.getImported() + "명이 등록되었습니다.", response));
+    }
+    
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.TEXT_PLAIN_VALUE })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PlayerImportResponse>> importPlayersCsv(@RequestBody byte[] csv) {
+        // text/csv 기본 문자셋(ISO-8859-1) 대신 UTF-8로 읽음
+        PlayerImportResponse response = playerImportService.importCsv(new String(csv, StandardCharsets.UTF_8));
+        return ResponseEntity.ok(ApiResponse.success(response.getImported() + "명이 등록되었습니다.", response));
+    }
+    
     @GetMapping
-    public ResponseEntity<ApiResponse<List<PlayerResponse>>> getPlayers() {
-        List<PlayerResponse> players = playerService.getPlayers();
-        return ResponseEntity.ok(ApiResponse.success(players));
+    public ResponseEntity<byte[]> getPlayers() {
+        ResponseSnapshot roster = playerService.getPlayerRoster();
+        // If-None-Match가 ETag와 일치하면 Spring이 본문 없이 304 Not Modified로 응답
+        // 관리자와 공개 목록은 본문이 달라 ETag도 다르다
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .eTag(roster.getEtag())
+                .header(ROSTER_VERSION_HEADER, String.valueOf(roster.getVersion()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(roster.getBody());
+    }
+    
+    @GetMapping("/{playerId}/stats")
+    public ResponseEntity<ApiResponse<PlayerStatsResponse>> getPlayerStats(@PathVariable Long playerId) {
+        PlayerStatsResponse stats = playerStatsService.getStats(playerId);
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+    
+    @GetMapping("/leaderboard")
+    public ResponseEntity<ApiResponse<List<PlayerStatsResponse>>> getLeaderboard(
+            @RequestParam(required = false) Integer limit) {
+        List<PlayerStatsResponse> leaderboard = playerStatsService.getLeaderboard(limit);
+        return ResponseEntity.ok(ApiResponse.success(leaderboard));
     }
     
     @DeleteMapping("/me")
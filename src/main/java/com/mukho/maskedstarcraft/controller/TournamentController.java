@@ -1,16 +1,28 @@
 package com.mukho.maskedstarcraft.controller;
 
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.mukho.maskedstarcraft.dto.request.GameResultRequest;
+import com.mukho.maskedstarcraft.dto.request.TournamentStartRequest;
 import com.mukho.maskedstarcraft.dto.response.ApiResponse;
+import com.mukho.maskedstarcraft.dto.response.TournamentOverviewResponse;
 import com.mukho.maskedstarcraft.dto.response.TournamentResponse;
+import com.mukho.maskedstarcraft.dto.response.UpcomingChallengersResponse;
+import com.mukho.maskedstarcraft.service.ResponseSnapshot;
+import com.mukho.maskedstarcraft.service.TournamentCommandService;
 import com.mukho.maskedstarcraft.service.TournamentService;
 
 import jakarta.validation.Valid;
@@ -24,27 +36,66 @@ import lombok.extern.slf4j.Slf4j;
 public class TournamentController {
     
     private final TournamentService tournamentService;
+    private final TournamentCommandService tournamentCommandService;
     
     @GetMapping("/tournaments/current")
-    public ResponseEntity<ApiResponse<TournamentResponse>> getCurrentTournament() {
-        TournamentResponse response = tournamentService.getCurrentTournament();
-        if (response == null) {
-            return ResponseEntity.ok(ApiResponse.success("진행 중인 대회가 없습니다.", null));
-        }
+    public ResponseEntity<byte[]> getCurrentTournament() {
+        return snapshotResponse(tournamentService.getTournamentSnapshot(null));
+    }
+    
+    @GetMapping("/tournaments/active")
+    public ResponseEntity<ApiResponse<List<TournamentOverviewResponse>>> getActiveTournaments() {
+        List<TournamentOverviewResponse> tournaments = tournamentService.getActiveTournaments();
+        return ResponseEntity.ok(ApiResponse.success(tournaments));
+    }
+    
+    @GetMapping("/tournaments/{tournamentId}")
+    public ResponseEntity<byte[]> getTournament(@PathVariable Long tournamentId) {
+        return snapshotResponse(tournamentService.getTournamentSnapshot(tournamentId));
+    }
+    
+    @GetMapping("/tournaments/current/upcoming")
+    public ResponseEntity<ApiResponse<UpcomingChallengersResponse>> getUpcomingChallengers(
+            @RequestParam(required = false) Integer limit) {
+        UpcomingChallengersResponse response = tournamentService.getUpcomingChallengers(null, limit);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    @GetMapping("/tournaments/{tournamentId}/upcoming")
+    public ResponseEntity<ApiResponse<UpcomingChallengersResponse>> getUpcomingChallengers(
+            @PathVariable Long tournamentId,
+            @RequestParam(required = false) Integer limit) {
+        UpcomingChallengersResponse response = tournamentService.getUpcomingChallengers(tournamentId, limit);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
     @PostMapping("/tournaments/start")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<TournamentResponse>> startTournament() {
-        TournamentResponse response = tournamentService.startTournament();
+    public ResponseEntity<ApiResponse<TournamentResponse>> startTournament(
+            @Valid @RequestBody(required = false) TournamentStartRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        TournamentResponse response = tournamentCommandService.startTournament(
+                request != null ? request : new TournamentStartRequest(), idempotencyKey);
         return ResponseEntity.ok(ApiResponse.success("대회가 시작되었습니다.", response));
     }
     
+    @PostMapping("/tournaments/{tournamentId}/games/result")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<TournamentResponse>> recordGameResult(
+            @PathVariable Long tournamentId,
+            @Valid @RequestBody GameResultRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        TournamentResponse response = tournamentCommandService.recordGameResult(tournamentId, request, idempotencyKey);
+        return ResponseEntity.ok(ApiResponse.success("경기 결과가 기록되었습니다.", response));
+    }
+    
     @PostMapping("/games/result")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<TournamentResponse>> recordGameResult(@Valid @RequestBody GameResultRequest request) {
-        TournamentResponse response = tournamentService.recordGameResult(request);
+    public ResponseEntity<ApiResponse<TournamentResponse>> recordGameResult(
+            @Valid @RequestBody GameResultRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        // 대회 ID가 없으면 승자가 현재 경기 중인 대회에 기록
+        TournamentResponse response = tournamentCommandService.recordGameResult(null, request, idempotencyKey);
         return ResponseEntity.ok(ApiResponse.success("경기 결과가 기록되었습니다.", response));
     }
     
@@ -53,4 +104,13 @@ public class TournamentController {
         TournamentResponse response = tournamentService.getCurrentTournament();
         return ResponseEntity.ok(ApiResponse.success("대회 정보가 새로고침되었습니다.", response));
     }
+    
+    private ResponseEntity<byte[]> snapshotResponse(ResponseSnapshot snapshot) {
+        // If-None-Match가 ETag와 일치하면 Spring이 본문 없이 304 Not Modified로 응답
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(snapshot.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
+    }
 }
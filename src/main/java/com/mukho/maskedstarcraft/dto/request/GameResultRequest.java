@@ -8,4 +8,8 @@ public class GameResultRequest {
     
     @NotNull(message = "승자 ID는 필수입니다")
     private Long winnerId;
+    
+    // 결과를 입력한 경기의 라운드. 현재 라운드와 다르면 반영하지 않음 (중복 클릭으로 다음 경기에 기록되는 것 방지)
+    @NotNull(message = "라운드는 필수입니다")
+    private Integer round;
 }
@@ -1,5 +1,7 @@
 package com.mukho.maskedstarcraft.dto.request;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
@@ -10,4 +12,8 @@ public class MapCreateRequest {
     @NotBlank(message = "맵 이름은 필수입니다")
     @Size(max = 100, message = "맵 이름은 100자 이내여야 합니다")
     private String name;
+    
+    @Min(value = 1, message = "맵 가중치는 1 이상이어야 합니다")
+    @Max(value = 100, message = "맵 가중치는 100 이하여야 합니다")
+    private Integer weight; // 선택 사항, 기본 1
 }
@@ -0,0 +1,18 @@
+package com.mukho.maskedstarcraft.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class TournamentStartRequest {
+    
+    @Size(max = 50, message = "대회 이름은 50자 이내여야 합니다")
+    private String name; // 선택 사항 (예: 경기장, 부문)
+    
+    private Long seed; // 선택 사항, 생략 시 새로 생성
+    
+    // 선택 사항. 생략하면 전체 참가자로 시작 (진행 중인 대회가 없을 때만)
+    private List<Long> playerIds;
+}
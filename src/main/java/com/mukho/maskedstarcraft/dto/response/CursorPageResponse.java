@@ -0,0 +1,22 @@
+package com.mukho.maskedstarcraft.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private Long nextCursor; // 다음 페이지 요청 시 cursor 값 (마지막 페이지면 null)
+    private boolean hasNext;
+    
+    public static <T> CursorPageResponse<T> of(List<T> items, Long nextCursor) {
+        return CursorPageResponse.<T>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -9,11 +9,13 @@ import lombok.Data;
 public class MapResponse {
     private Long id;
     private String name;
+    private Integer weight;
     
     public static MapResponse from(Map map) {
         return MapResponse.builder()
                 .id(map.getId())
                 .name(map.getName())
+                .weight(map.getWeight() != null ? map.getWeight() : 1)
                 .build();
     }
 }
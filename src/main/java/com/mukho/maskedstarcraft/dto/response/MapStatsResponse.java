@@ -0,0 +1,25 @@
+package com.mukho.maskedstarcraft.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MapStatsResponse {
+    private MapResponse map;
+    private Integer totalGames;
+    private List<MatchupStats> matchups; // 종족 조합별 전적 (동족전 포함)
+    
+    @Data
+    @Builder
+    public static class MatchupStats {
+        private String race;
+        private String opponentRace;
+        private Integer games;
+        private Integer wins; // race 기준 승수 (동족전은 경기 수와 같음)
+        private Integer losses;
+        private Double winRate; // 0.0 ~ 1.0, 경기가 없으면 null
+    }
+}
@@ -0,0 +1,11 @@
+package com.mukho.maskedstarcraft.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class NicknameAvailabilityResponse {
+    private String nickname;
+    private boolean available;
+}
@@ -0,0 +1,24 @@
+package com.mukho.maskedstarcraft.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PlayerImportResponse {
+    private Integer total;
+    private Integer imported;
+    private Integer failed;
+    private List<RowError> errors; // 등록하지 못한 행 (행 번호 오름차순)
+    
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private Integer row; // CSV는 파일의 줄 번호, JSON은 배열 순서 (1부터)
+        private String nickname;
+        private String message;
+    }
+}
@@ -2,11 +2,13 @@ package com.mukho.maskedstarcraft.dto.response;
 
 import com.mukho.maskedstarcraft.entity.User;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor  // JPQL 생성자 표현식(new PlayerResponse(...))용
 public class PlayerResponse {
     private Long id;
     private String name;
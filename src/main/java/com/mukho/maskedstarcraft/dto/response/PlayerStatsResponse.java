@@ -0,0 +1,26 @@
+package com.mukho.maskedstarcraft.dto.response;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PlayerStatsResponse {
+    private PlayerResponse player;
+    private Integer wins;
+    private Integer losses;
+    private Double winRate; // 0.0 ~ 1.0
+    private Integer longestStreak;
+    private Integer titles;
+    private Map<String, RaceRecord> raceRecords; // 상대 종족별 전적 (테란, 저그, 프로토스)
+    
+    @Data
+    @AllArgsConstructor
+    public static class RaceRecord {
+        private Integer wins;
+        private Integer losses;
+    }
+}
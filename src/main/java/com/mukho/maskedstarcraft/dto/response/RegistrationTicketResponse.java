@@ -0,0 +1,17 @@
+package com.mukho.maskedstarcraft.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RegistrationTicketResponse {
+    private String ticketId;
+    private String nickname;
+    private String status; // QUEUED, REGISTERED, REJECTED, FAILED
+    private String message; // 거절/실패 사유
+    private LocalDateTime acceptedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,22 @@
+package com.mukho.maskedstarcraft.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder(toBuilder = true)
+public class TournamentEvent {
+    private Type type;
+    private Long sequence; // 상태 버전, 단조 증가
+    private Long tournamentId;
+    private String status;
+    private TournamentResponse.CurrentGameResponse currentGame; // 새 현재 경기 (종료 시 null)
+    private List<TournamentResponse.GameLogResponse> finishedGames; // 방금 끝난 경기 (연승 포함)
+    private TournamentResponse.TournamentResultResponse result; // 대회 종료 시 결과
+    
+    public enum Type {
+        TOURNAMENT_STARTED, GAME_FINISHED, TOURNAMENT_FINISHED
+    }
+}
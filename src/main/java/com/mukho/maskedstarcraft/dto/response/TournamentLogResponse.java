@@ -31,6 +31,7 @@ public class TournamentLogResponse {
         private MapResponse map;
         private LocalDateTime playTime;
         private Integer winnerStreak;
+        private Integer loserStreak;
     }
     
     @Data
@@ -0,0 +1,21 @@
+package com.mukho.maskedstarcraft.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 대회 로그 목록의 한 항목. 경기 상세는 /logs/tournaments/{id}에서 조회한다.
+ */
+@Data
+@Builder
+public class TournamentLogSummaryResponse {
+    private Long tournamentId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private PlayerResponse winner;
+    private Integer maxStreak;
+    private Integer totalGames;
+    private String duration;
+}
@@ -0,0 +1,17 @@
+package com.mukho.maskedstarcraft.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TournamentOverviewResponse {
+    private Long id;
+    private String name;
+    private String status;
+    private Integer currentRound;
+    private Integer remainingChallengers;
+    private LocalDateTime startedAt;
+}
@@ -9,7 +9,9 @@ import lombok.Data;
 @Builder
 public class TournamentResponse {
     private Long id;
+    private String name;
     private String status;
+    private Long seed; // 도전자 순서 시드 (같은 시드로 시작하면 같은 순서)
     private CurrentGameResponse currentGame;
     private List<GameLogResponse> previousGames;
     private TournamentResultResponse result;
@@ -0,0 +1,15 @@
+package com.mukho.maskedstarcraft.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class UpcomingChallengersResponse {
+    private Long tournamentId;
+    private Long seed;
+    private Integer remaining; // 아직 경기하지 않은 도전자 수
+    private List<PlayerResponse> challengers; // 다음 도전자부터 순서대로
+}
@@ -12,6 +12,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +22,12 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "game_logs")
+@NamedEntityGraph(name = "GameLog.details", attributeNodes = {
+        @NamedAttributeNode("player1"),
+        @NamedAttributeNode("player2"),
+        @NamedAttributeNode("winner"),
+        @NamedAttributeNode("map")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -53,6 +61,12 @@ public class GameLog {
     @Column(nullable = false)
     private Integer round;
     
+    // 이 경기까지 승자의 연승 수
+    private Integer winnerStreak;
+    
+    // 이 경기로 끊긴 패자의 연승 수
+    private Integer loserStreak;
+    
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -31,6 +31,10 @@ public class Map {
     @Column(nullable = false, length = 100, unique = true)
     private String name;
     
+    // 가중치 선택(tournament.map-selection=weighted) 시 상대 확률, 없으면 1
+    @Builder.Default
+    private Integer weight = 1;
+    
     @Column(nullable = false)
     @Builder.Default
     private Boolean isDeleted = false;
@@ -0,0 +1,116 @@
+package com.mukho.maskedstarcraft.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대회를 넘나드는 플레이어 통산 기록. 경기 결과가 기록될 때마다 증분 갱신된다.
+ */
+@Entity
+@Table(name = "player_career_stats", indexes = @Index(name = "idx_player_career_stats_rank", columnList = "wins, titles, longestStreak"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerCareerStats {
+    
+    @Id
+    private Long userId;
+    
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer wins = 0;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer losses = 0;
+    
+    // 통산 최다 연승
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer longestStreak = 0;
+    
+    // 우승 횟수
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer titles = 0;
+    
+    // 상대 종족별 전적
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer vsTerranWins = 0;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer vsTerranLosses = 0;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer vsZergWins = 0;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer vsZergLosses = 0;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer vsProtossWins = 0;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer vsProtossLosses = 0;
+    
+    public void recordWin(String opponentRace, int streak) {
+        wins++;
+        longestStreak = Math.max(longestStreak, streak);
+        switch (opponentRace) {
+            case "테란" -> vsTerranWins++;
+            case "저그" -> vsZergWins++;
+            case "프로토스" -> vsProtossWins++;
+            default -> { }
+        }
+    }
+    
+    public void recordLoss(String opponentRace) {
+        losses++;
+        switch (opponentRace) {
+            case "테란" -> vsTerranLosses++;
+            case "저그" -> vsZergLosses++;
+            case "프로토스" -> vsProtossLosses++;
+            default -> { }
+        }
+    }
+    
+    public void recordTitle() {
+        titles++;
+    }
+    
+    public void add(PlayerCareerStats delta) {
+        wins += delta.wins;
+        losses += delta.losses;
+        longestStreak = Math.max(longestStreak, delta.longestStreak);
+        titles += delta.titles;
+        vsTerranWins += delta.vsTerranWins;
+        vsTerranLosses += delta.vsTerranLosses;
+        vsZergWins += delta.vsZergWins;
+        vsZergLosses += delta.vsZergLosses;
+        vsProtossWins += delta.vsProtossWins;
+        vsProtossLosses += delta.vsProtossLosses;
+    }
+}
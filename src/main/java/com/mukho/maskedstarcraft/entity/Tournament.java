@@ -1,6 +1,9 @@
 package com.mukho.maskedstarcraft.entity;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.hibernate.annotations.CreationTimestamp;
 
@@ -12,6 +15,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,7 +25,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "tournaments")
+@Table(name = "tournaments", indexes = @Index(name = "idx_tournaments_status_id", columnList = "status, id"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -32,6 +36,10 @@ public class Tournament {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    // 대회 이름 (예: 경기장, 부문). 여러 대회를 동시에 진행할 때 구분용
+    @Column(length = 50)
+    private String name;
+    
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     @Builder.Default
@@ -45,10 +53,26 @@ public class Tournament {
     @JoinColumn(name = "max_streak_user_id")
     private User maxStreakUser;
     
+    // 도전자 순서를 만든 시드 (같은 참가자 목록이면 같은 순서가 재현됨)
+    private Long seed;
+    
+    // 시작 시 정해진 도전자 순서 (user id, 쉼표 구분)
+    @Column(columnDefinition = "TEXT")
+    private String challengerOrder;
+    
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
+    public List<Long> getChallengerOrderIds() {
+        if (challengerOrder == null || challengerOrder.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(challengerOrder.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+    
     public enum Status {
         PREPARING, IN_PROGRESS, FINISHED
     }
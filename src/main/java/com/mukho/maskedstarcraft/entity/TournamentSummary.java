@@ -0,0 +1,83 @@
+package com.mukho.maskedstarcraft.entity;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종료된 대회의 결과 요약 (읽기 모델). 대회 종료 시 한 번 기록되고 이후 변경되지 않는다.
+ */
+@Entity
+@Table(name = "tournament_summary")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentSummary {
+    
+    @Id
+    private Long tournamentId;
+    
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tournament_id")
+    private Tournament tournament;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "winner_user_id")
+    private User winner;
+    
+    // 우승자가 마지막 경기까지 이어간 연승 수
+    @Column(nullable = false)
+    private Integer winnerStreak;
+    
+    @Column(nullable = false)
+    private Integer maxStreak;
+    
+    // 최다 연승자 id 목록 (달성 순서, 쉼표 구분). 최다 연승이 1이면 대부분의 참가자가 들어갈 수 있음
+    @Column(columnDefinition = "TEXT")
+    private String maxStreakPlayerIds;
+    
+    @Column(nullable = false)
+    private Integer totalGames;
+    
+    @Column(nullable = false)
+    private Integer totalParticipants;
+    
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+    
+    // 마지막 경기 시각 (경기가 없으면 null)
+    private LocalDateTime finishedAt;
+    
+    public List<Long> getMaxStreakPlayerIdList() {
+        if (maxStreakPlayerIds == null || maxStreakPlayerIds.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(maxStreakPlayerIds.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+    
+    public static String joinIds(Collection<Long> ids) {
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+}
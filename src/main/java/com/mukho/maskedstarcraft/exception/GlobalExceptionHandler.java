@@ -1,7 +1,9 @@
 package com.mukho.maskedstarcraft.exception;
 
 import com.mukho.maskedstarcraft.dto.response.ApiResponse;
+import com.mukho.maskedstarcraft.service.RegistrationIntakeService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -21,6 +23,14 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(e.getMessage()));
     }
     
+    @ExceptionHandler(RegistrationIntakeService.IntakeQueueFullException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIntakeQueueFull(RegistrationIntakeService.IntakeQueueFullException e) {
+        log.warn("Registration intake queue full");
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(e.getMessage()));
+    }
+    
     @ExceptionHandler({MethodArgumentNotValidException.class, BindException.class})
     public ResponseEntity<ApiResponse<Void>> handleValidationException(Exception e) {
         String message = "입력값이 유효하지 않습니다";
@@ -1,23 +1,56 @@
 package com.mukho.maskedstarcraft.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.mukho.maskedstarcraft.entity.GameLog;
-import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.entity.User;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface GameLogRepository extends JpaRepository<GameLog, Long> {
     
-    List<GameLog> findByTournamentOrderByRoundDesc(Tournament tournament);
+    // 진행 중/종료 대회 화면과 로그 내보내기용: 플레이어, 승자, 맵을 한 번에 조회
+    @EntityGraph("GameLog.details")
+    @Query("SELECT gl FROM GameLog gl WHERE gl.tournament.id = :tournamentId ORDER BY gl.round ASC")
+    List<GameLog> findDetailedByTournamentIdOrderByRoundAsc(@Param("tournamentId") Long tournamentId);
+    
+    @Modifying
+    @Query("UPDATE GameLog gl SET gl.winner = :winner, gl.winnerStreak = :winnerStreak, gl.loserStreak = :loserStreak WHERE gl.id = :id")
+    int updateResult(@Param("id") Long id, @Param("winner") User winner,
+                     @Param("winnerStreak") Integer winnerStreak, @Param("loserStreak") Integer loserStreak);
+    
+    @Query("SELECT DISTINCT gl.tournament.id FROM GameLog gl WHERE gl.winner IS NOT NULL AND gl.winnerStreak IS NULL")
+    List<Long> findTournamentIdsWithMissingStreaks();
+    
+    @Query("SELECT gl FROM GameLog gl WHERE gl.tournament.id = :tournamentId ORDER BY gl.round ASC")
+    List<GameLog> findByTournamentIdOrderByRoundAsc(@Param("tournamentId") Long tournamentId);
+    
+    // 로그 파일 스트리밍용: 전체 목록을 메모리에 올리지 않고 행 단위로 읽는다
+    // (MySQL은 접속 URL에 useCursorFetch=true가 있어야 fetch size를 지킨다)
+    @EntityGraph("GameLog.details")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("SELECT gl FROM GameLog gl WHERE gl.tournament.id = :tournamentId ORDER BY gl.round ASC")
+    Stream<GameLog> streamDetailedByTournamentIdOrderByRoundAsc(@Param("tournamentId") Long tournamentId);
     
-    @Query("SELECT gl FROM GameLog gl WHERE gl.tournament = :tournament ORDER BY gl.round ASC")
-    List<GameLog> findByTournamentOrderByRoundAsc(@Param("tournament") Tournament tournament);
+    // 통산 기록 초기 생성용: 결과가 기록된 모든 경기
+    @EntityGraph("GameLog.details")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("SELECT gl FROM GameLog gl WHERE gl.winner IS NOT NULL ORDER BY gl.tournament.id ASC, gl.round ASC")
+    Stream<GameLog> streamFinishedGames();
     
-    @Query("SELECT COUNT(gl) FROM GameLog gl WHERE gl.tournament = :tournament")
-    Long countByTournament(@Param("tournament") Tournament tournament);
+    @Query("SELECT gl.map.id AS mapId, w.race AS winnerRace, p1.race AS player1Race, p2.race AS player2Race, COUNT(gl) AS games " +
+           "FROM GameLog gl JOIN gl.winner w JOIN gl.player1 p1 JOIN gl.player2 p2 " +
+           "GROUP BY gl.map.id, w.race, p1.race, p2.race")
+    List<MapMatchupCountView> countMatchupsByMap();
 }
@@ -0,0 +1,12 @@
+package com.mukho.maskedstarcraft.repository;
+
+/**
+ * 맵별 종족 조합 승수 집계 행. 패자 종족은 승자 종족이 player1 종족과 같으면 player2 종족, 아니면 player1 종족.
+ */
+public interface MapMatchupCountView {
+    Long getMapId();
+    String getWinnerRace();
+    String getPlayer1Race();
+    String getPlayer2Race();
+    Long getGames();
+}
@@ -0,0 +1,36 @@
+package com.mukho.maskedstarcraft.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mukho.maskedstarcraft.entity.PlayerCareerStats;
+
+@Repository
+public interface PlayerCareerStatsRepository extends JpaRepository<PlayerCareerStats, Long> {
+    
+    // 삭제된 플레이어의 기록은 남겨 두지만 순위에는 올리지 않음
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT s FROM PlayerCareerStats s WHERE s.user.isDeleted = false")
+    List<PlayerCareerStats> findAllOfActivePlayers();
+    
+    // 조회 없이 증분을 더한다 (첫 경기면 행을 만든다). 최다 연승은 큰 값을 유지
+    @Modifying
+    @Query(value = "INSERT INTO player_career_stats (user_id, wins, losses, longest_streak, titles, " +
+            "vs_terran_wins, vs_terran_losses, vs_zerg_wins, vs_zerg_losses, vs_protoss_wins, vs_protoss_losses) " +
+            "VALUES (:#{#delta.userId}, :#{#delta.wins}, :#{#delta.losses}, :#{#delta.longestStreak}, :#{#delta.titles}, " +
+            ":#{#delta.vsTerranWins}, :#{#delta.vsTerranLosses}, :#{#delta.vsZergWins}, :#{#delta.vsZergLosses}, " +
+            ":#{#delta.vsProtossWins}, :#{#delta.vsProtossLosses}) " +
+            "ON DUPLICATE KEY UPDATE wins = wins + VALUES(wins), losses = losses + VALUES(losses), " +
+            "longest_streak = GREATEST(longest_streak, VALUES(longest_streak)), titles = titles + VALUES(titles), " +
+            "vs_terran_wins = vs_terran_wins + VALUES(vs_terran_wins), vs_terran_losses = vs_terran_losses + VALUES(vs_terran_losses), " +
+            "vs_zerg_wins = vs_zerg_wins + VALUES(vs_zerg_wins), vs_zerg_losses = vs_zerg_losses + VALUES(vs_zerg_losses), " +
+            "vs_protoss_wins = vs_protoss_wins + VALUES(vs_protoss_wins), vs_protoss_losses = vs_protoss_losses + VALUES(vs_protoss_losses)",
+            nativeQuery = true)
+    void addStats(@Param("delta") PlayerCareerStats delta);
+}
@@ -1,26 +1,53 @@
 package com.mukho.maskedstarcraft.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.entity.User;
 
 @Repository
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
     
-    @Query("SELECT t FROM Tournament t WHERE t.status IN ('PREPARING', 'IN_PROGRESS') ORDER BY t.createdAt DESC")
-    Optional<Tournament> findCurrentTournament();
+    @EntityGraph(attributePaths = {"winnerUser", "maxStreakUser"})
+    @Query("SELECT t FROM Tournament t WHERE t.status IN ('PREPARING', 'IN_PROGRESS') ORDER BY t.id")
+    List<Tournament> findActiveTournaments();
     
+    @EntityGraph(attributePaths = {"winnerUser", "maxStreakUser"})
     @Query("SELECT t FROM Tournament t WHERE t.status = 'FINISHED' ORDER BY t.createdAt DESC")
     List<Tournament> findFinishedTournaments(Pageable pageable);
     
+    @EntityGraph(attributePaths = {"winnerUser"})
+    @Query("SELECT t FROM Tournament t WHERE t.status = 'FINISHED' " +
+           "AND NOT EXISTS (SELECT 1 FROM TournamentSummary s WHERE s.tournamentId = t.id) ORDER BY t.id")
+    List<Tournament> findFinishedTournamentsWithoutSummary();
+    
+    @EntityGraph(attributePaths = {"winnerUser"})
+    @Query("SELECT t FROM Tournament t WHERE t.status = 'FINISHED' AND t.winnerUser IS NOT NULL ORDER BY t.id")
+    List<Tournament> findFinishedTournamentsWithWinner();
+    
+    @Query("SELECT t.id FROM Tournament t WHERE t.status = 'FINISHED' ORDER BY t.id")
+    List<Long> findFinishedTournamentIds();
+    
+    @Query("SELECT t.id FROM Tournament t WHERE t.status = 'FINISHED' AND t.id IN :ids ORDER BY t.id")
+    List<Long> findFinishedTournamentIdsIn(@Param("ids") Collection<Long> ids);
+    
     boolean existsByStatus(Tournament.Status status);
     
+    @Modifying
+    @Query("UPDATE Tournament t SET t.status = :status, t.winnerUser = :winner, t.maxStreakUser = :maxStreakUser WHERE t.id = :id")
+    int updateResult(@Param("id") Long id, @Param("status") Tournament.Status status,
+                     @Param("winner") User winner, @Param("maxStreakUser") User maxStreakUser);
+    
     default Optional<Tournament> findLatestFinishedTournament() {
         List<Tournament> tournaments = findFinishedTournaments(Pageable.ofSize(1));
         return tournaments.isEmpty() ? Optional.empty() : Optional.of(tournaments.get(0));
@@ -0,0 +1,29 @@
+package com.mukho.maskedstarcraft.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mukho.maskedstarcraft.entity.TournamentSummary;
+
+@Repository
+public interface TournamentSummaryRepository extends JpaRepository<TournamentSummary, Long> {
+    
+    // 종료된 대회를 id 내림차순으로 커서(마지막으로 받은 id) 이후부터 조회
+    @Query("SELECT s FROM TournamentSummary s LEFT JOIN FETCH s.winner " +
+           "WHERE (:cursor IS NULL OR s.tournamentId < :cursor) ORDER BY s.tournamentId DESC")
+    List<TournamentSummary> findPage(@Param("cursor") Long cursor, Pageable pageable);
+    
+    @Query("SELECT s FROM TournamentSummary s LEFT JOIN FETCH s.winner WHERE s.tournamentId = :tournamentId")
+    Optional<TournamentSummary> findWithWinnerByTournamentId(@Param("tournamentId") Long tournamentId);
+    
+    // 로그 상세용: 대회 (우승자, 최다연승자 포함)까지 한 번에 조회
+    @Query("SELECT s FROM TournamentSummary s JOIN FETCH s.tournament t " +
+           "LEFT JOIN FETCH s.winner LEFT JOIN FETCH t.maxStreakUser WHERE s.tournamentId = :tournamentId")
+    Optional<TournamentSummary> findDetailedByTournamentId(@Param("tournamentId") Long tournamentId);
+}
@@ -1,13 +1,16 @@
 package com.mukho.maskedstarcraft.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.mukho.maskedstarcraft.dto.response.PlayerResponse;
 import com.mukho.maskedstarcraft.entity.User;
 
 @Repository
@@ -18,9 +21,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.isDeleted = false AND u.role = 'PLAYER' ORDER BY u.createdAt ASC")
     List<User> findActivePlayersOrderByCreatedAt();
     
+    // 참가자 목록 응답용 프로젝션 (User 엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT new com.mukho.maskedstarcraft.dto.response.PlayerResponse(u.id, u.name, u.nickname, u.race) "
+            + "FROM User u WHERE u.isDeleted = false AND u.role = 'PLAYER' ORDER BY u.createdAt ASC")
+    List<PlayerResponse> findActivePlayerRoster();
+    
+    @Query("SELECT u FROM User u WHERE u.isDeleted = false AND u.role = 'PLAYER' AND u.id IN :ids ORDER BY u.createdAt ASC")
+    List<User> findActivePlayersByIdIn(@Param("ids") Collection<Long> ids);
+    
     @Modifying
     @Query("UPDATE User u SET u.isDeleted = true WHERE u.role = 'PLAYER'")
     void softDeleteAllPlayers();
     
     boolean existsByNicknameAndIsDeletedFalse(String nickname);
+    
+    boolean existsByNickname(String nickname);
+    
+    @Query("SELECT u.nickname FROM User u")
+    List<String> findAllNicknames();
+    
+    // 닉네임은 삭제된 사용자까지 포함해 유일해야 함 (users.nickname UNIQUE)
+    @Query("SELECT u.nickname FROM User u WHERE u.nickname IN :nicknames")
+    List<String> findNicknamesIn(@Param("nicknames") Collection<String> nicknames);
 }
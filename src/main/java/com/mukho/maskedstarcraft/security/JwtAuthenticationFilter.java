@@ -2,6 +2,7 @@ package com.mukho.maskedstarcraft.security;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -11,6 +12,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,18 +27,23 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         
+        // 토큰 검증과 인증 정보 설정까지만 측정 (이후 필터/컨트롤러 시간 제외)
+        Timer.Sample sample = Timer.start(meterRegistry);
         String jwt = getJwtFromRequest(request);
         log.debug("JWT token from request: {}", jwt != null ? "present" : "absent");
         log.debug("Request URI: {} {}", request.getMethod(), request.getRequestURI());
         
-        if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-            String nickname = jwtUtil.getNicknameFromToken(jwt);
-            String role = jwtUtil.getRoleFromToken(jwt);
+        Optional<JwtClaims> claims = StringUtils.hasText(jwt) ? jwtUtil.parse(jwt) : Optional.empty();
+        
+        if (claims.isPresent()) {
+            String nickname = claims.get().nickname();
+            String role = claims.get().role();
             
             log.debug("Authenticated user: {} with role: {}", nickname, role);
             
@@ -52,6 +60,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.debug("JWT validation failed or token absent");
         }
         
+        String result = claims.isPresent() ? "authenticated" : StringUtils.hasText(jwt) ? "invalid" : "anonymous";
+        sample.stop(Timer.builder("auth.jwt.filter")
+                .description("JWT 검증 및 인증 정보 설정 시간")
+                .tag("result", result)
+                .register(meterRegistry));
+        
         filterChain.doFilter(request, response);
     }
     
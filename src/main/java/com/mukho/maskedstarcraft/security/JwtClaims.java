@@ -0,0 +1,13 @@
+package com.mukho.maskedstarcraft.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT에서 필요한 값만 꺼낸 결과.
+ */
+public record JwtClaims(String nickname, String role, Instant expiresAt) {
+    
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
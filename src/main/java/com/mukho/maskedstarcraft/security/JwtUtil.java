@@ -3,11 +3,21 @@ package com.mukho.maskedstarcraft.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 @Component
 @Slf4j
@@ -15,15 +25,38 @@ public class JwtUtil {
     
     private final SecretKey key;
     private final long jwtExpiration;
+    private final JwtParser parser;
+    private final Clock clock;
     
+    // 최근 검증한 토큰 (토큰 SHA-256 다이제스트 -> 클레임), 접근 순서 기준 LRU
+    private final Map<String, JwtClaims> verifiedTokens;
+    
+    @Autowired
     public JwtUtil(@Value("${jwt.secret}") String secret,
-                   @Value("${jwt.expiration}") long jwtExpiration) {
+                   @Value("${jwt.expiration}") long jwtExpiration,
+                   @Value("${jwt.cache.max-size:1024}") int cacheMaxSize) {
+        this(secret, jwtExpiration, cacheMaxSize, Clock.systemUTC());
+    }
+    
+    // 발급, 캐시 만료 확인, 파서의 만료 검증이 모두 같은 시계를 쓴다 (테스트에서 시간을 옮길 수 있게)
+    JwtUtil(String secret, long jwtExpiration, int cacheMaxSize, Clock clock) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpiration = jwtExpiration;
+        this.clock = clock;
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .clock(() -> Date.from(clock.instant()))
+                .build();
+        this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+                return size() > cacheMaxSize;
+            }
+        };
     }
     
     public String generateToken(String nickname, String role) {
-        Date now = new Date();
+        Date now = Date.from(clock.instant());
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
         
         return Jwts.builder()
@@ -35,33 +68,39 @@ public class JwtUtil {
                 .compact();
     }
     
-    public String getNicknameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 토큰을 한 번만 검증하고 클레임을 돌려준다. 유효하지 않거나 만료된 토큰이면 빈 값.
+     * 최근 검증한 토큰은 만료 전까지 서명 검증 없이 캐시에서 꺼낸다.
+     */
+    public Optional<JwtClaims> parse(String token) {
+        String digest = digest(token);
+        Instant now = clock.instant();
         
-        return claims.getSubject();
-    }
-    
-    public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        synchronized (verifiedTokens) {
+            JwtClaims cached = verifiedTokens.get(digest);
+            if (cached != null) {
+                if (!cached.isExpired(now)) {
+                    return Optional.of(cached);
+                }
+                verifiedTokens.remove(digest);
+                log.error("Expired JWT token");
+                return Optional.empty();
+            }
+        }
         
-        return claims.get("role", String.class);
-    }
-    
-    public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims payload = parser.parseSignedClaims(token).getPayload();
+            // 발급하는 토큰에는 항상 만료 시각이 있다. 없는 토큰은 캐시에 둘 수도 없으므로 거부
+            if (payload.getExpiration() == null) {
+                log.error("JWT token has no expiration");
+                return Optional.empty();
+            }
+            JwtClaims claims = new JwtClaims(payload.getSubject(), payload.get("role", String.class),
+                    payload.getExpiration().toInstant());
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(digest, claims);
+            }
+            return Optional.of(claims);
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -72,7 +111,18 @@ public class JwtUtil {
             log.error("Unsupported JWT token");
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
+        } catch (JwtException ex) {
+            log.error("Invalid JWT token");
+        }
+        return Optional.empty();
+    }
+    
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
-        return false;
     }
 }
@@ -1,13 +1,13 @@
 package com.mukho.maskedstarcraft.service;
 
-import java.util.Optional;
-
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.mukho.maskedstarcraft.dto.request.ApplyRequest;
 import com.mukho.maskedstarcraft.dto.request.LoginRequest;
 import com.mukho.maskedstarcraft.dto.response.LoginResponse;
+import com.mukho.maskedstarcraft.dto.response.NicknameAvailabilityResponse;
 import com.mukho.maskedstarcraft.entity.Tournament;
 import com.mukho.maskedstarcraft.entity.User;
 import com.mukho.maskedstarcraft.exception.BusinessException;
@@ -27,17 +27,17 @@ public class AuthService {
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final TournamentRepository tournamentRepository;
+    private final PlayerRosterCache playerRosterCache;
+    private final NicknameIndex nicknameIndex;
     
     public void apply(ApplyRequest request) {
         // 진행 중인 대회가 있는지 확인
-        Optional<Tournament> currentTournament = tournamentRepository.findCurrentTournament();
-        if (currentTournament.isPresent() && 
-            currentTournament.get().getStatus() == Tournament.Status.IN_PROGRESS) {
+        if (tournamentRepository.existsByStatus(Tournament.Status.IN_PROGRESS)) {
             throw new TournamentInProgressException();
         }
         
-        // 닉네임 중복 체크
-        if (userRepository.existsByNicknameAndIsDeletedFalse(request.getNickname())) {
+        // 닉네임 중복 체크 (메모리 색인, 최종 판단은 DB UNIQUE 제약)
+        if (nicknameIndex.isTaken(request.getNickname())) {
             throw new UserAlreadyExistsException(request.getNickname());
         }
         
@@ -50,10 +50,34 @@ public class AuthService {
                 .role(User.Role.PLAYER)
                 .build();
         
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // 색인 확인 이후 같은 닉네임이 먼저 등록된 경우
+            throw new UserAlreadyExistsException(request.getNickname());
+        }
+        nicknameIndex.register(request.getNickname());
+        playerRosterCache.invalidate();
         log.info("New player registered: {}", request.getNickname());
     }
     
+    /**
+     * 참가 신청 전에 닉네임 사용 가능 여부를 확인한다. DB를 조회하지 않는 빠른 안내용.
+     */
+    @Transactional(readOnly = true)
+    public NicknameAvailabilityResponse checkNickname(String nickname) {
+        if (nickname == null || nickname.isBlank()) {
+            throw new InvalidNicknameException("닉네임은 필수입니다");
+        }
+        if (nickname.length() > 100) {
+            throw new InvalidNicknameException("닉네임은 100자 이내여야 합니다");
+        }
+        return NicknameAvailabilityResponse.builder()
+                .nickname(nickname)
+                .available(!nicknameIndex.isTaken(nickname))
+                .build();
+    }
+    
     @Transactional(readOnly = true)
     public LoginResponse login(LoginRequest request) {
         User user = userRepository.findByNicknameAndIsDeletedFalse(request.getNickname())
@@ -76,6 +100,12 @@ public class AuthService {
         }
     }
     
+    public static class InvalidNicknameException extends BusinessException {
+        public InvalidNicknameException(String message) {
+            super(message);
+        }
+    }
+    
     public static class UserNotFoundException extends BusinessException {
         public UserNotFoundException(String message) {
             super(message);
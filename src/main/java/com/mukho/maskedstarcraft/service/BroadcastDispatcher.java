@@ -0,0 +1,169 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mukho.maskedstarcraft.dto.response.TournamentEvent;
+import com.mukho.maskedstarcraft.dto.response.TournamentResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 브로드캐스트만 전용 스레드에서 전송한다.
+ * 짧은 구간 안에 쌓인 메시지는 목적지/병합 키별로 하나로 합쳐 보낸다.
+ * 대회 이벤트는 종류가 같을 때만 합치고, 종류가 바뀌면 따로 보내 발행 순서와 종류를 지킨다.
+ */
+@Component
+@Slf4j
+public class BroadcastDispatcher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long coalesceWindowMs;
+    private final ScheduledExecutorService executor;
+
+    private final Timer dispatchLag;
+    private final Counter sentMessages;
+    private final Counter coalescedMessages;
+
+    // 목적지 -> 대기 메시지, 추가 순서 유지
+    private final Map<String, Batch> pending = new LinkedHashMap<>();
+    private boolean flushScheduled = false;
+
+    public BroadcastDispatcher(SimpMessagingTemplate messagingTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${websocket.broadcast.coalesce-window-ms:50}") long coalesceWindowMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ws-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.dispatchLag = Timer.builder("websocket.broadcast.dispatch.lag")
+                .description("커밋 후 큐에 들어간 시점부터 실제 전송까지의 지연")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.sentMessages = Counter.builder("websocket.broadcast.sent")
+                .description("전송된 STOMP 메시지 수")
+                .register(meterRegistry);
+        this.coalescedMessages = Counter.builder("websocket.broadcast.coalesced")
+                .description("병합되어 전송이 생략된 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 호출된다. 트랜잭션 밖에서 발행된 메시지는 즉시 큐에 넣는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBroadcast(BroadcastMessage message) {
+        synchronized (pending) {
+            Batch batch = pending.computeIfAbsent(message.getDestination(), destination -> new Batch());
+            Pending existing = batch.latest.get(message.getCoalesceKey());
+            if (existing != null && mergeable(existing.payload, message.getPayload())) {
+                existing.payload = merge(existing.payload, message.getPayload());
+                coalescedMessages.increment();
+            } else {
+                Pending added = new Pending(message.getPayload(), System.nanoTime());
+                batch.queue.add(added);
+                batch.latest.put(message.getCoalesceKey(), added);
+            }
+
+            if (!flushScheduled) {
+                flushScheduled = true;
+                executor.schedule(this::flush, coalesceWindowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void flush() {
+        List<Map.Entry<String, Batch>> batch;
+        synchronized (pending) {
+            batch = new ArrayList<>(pending.entrySet());
+            pending.clear();
+            flushScheduled = false;
+        }
+
+        for (Map.Entry<String, Batch> entry : batch) {
+            for (Pending message : entry.getValue().queue) {
+                try {
+                    messagingTemplate.convertAndSend(entry.getKey(), message.payload);
+                    sentMessages.increment();
+                } catch (Exception e) {
+                    log.error("Failed to broadcast to {}", entry.getKey(), e);
+                } finally {
+                    dispatchLag.record(System.nanoTime() - message.enqueuedAt, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * 대회 이벤트는 종류가 같을 때만 합친다. 다른 종류(예: 시작 직후의 경기 종료)를 합치면 앞선 이벤트가 사라진다.
+     */
+    private boolean mergeable(Object previous, Object next) {
+        if (previous instanceof TournamentEvent older && next instanceof TournamentEvent newer) {
+            return older.getType() == newer.getType();
+        }
+        return true;
+    }
+
+    private Object merge(Object previous, Object next) {
+        // 구간 안의 대회 이벤트는 최신 상태 하나로 합치되, 끝난 경기 목록은 누적해 유실되지 않게 한다
+        if (previous instanceof TournamentEvent older && next instanceof TournamentEvent newer) {
+            List<TournamentResponse.GameLogResponse> finishedGames = new ArrayList<>();
+            if (older.getFinishedGames() != null) {
+                finishedGames.addAll(older.getFinishedGames());
+            }
+            if (newer.getFinishedGames() != null) {
+                finishedGames.addAll(newer.getFinishedGames());
+            }
+            return newer.toBuilder().finishedGames(finishedGames).build();
+        }
+        return next;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Batch {
+        private final List<Pending> queue = new ArrayList<>();
+        // 병합 키 -> 그 키로 가장 최근에 추가된 메시지
+        private final Map<Object, Pending> latest = new HashMap<>();
+    }
+
+    private static class Pending {
+        private Object payload;
+        private final long enqueuedAt;
+
+        private Pending(Object payload, long enqueuedAt) {
+            this.payload = payload;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.mukho.maskedstarcraft.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커밋 이후 전송될 STOMP 메시지. 같은 목적지에서 병합 키가 같은 메시지는 하나로 합쳐진다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BroadcastMessage {
+    private final String destination;
+    private final Object coalesceKey;
+    private final Object payload;
+}
@@ -0,0 +1,70 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mukho.maskedstarcraft.entity.GameLog;
+import com.mukho.maskedstarcraft.repository.GameLogRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * winner_streak / loser_streak 컬럼이 추가되기 전에 기록된 경기의 연승 값을 채운다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class GameLogStreakBackfill {
+
+    private final GameLogRepository gameLogRepository;
+
+    public void backfill() {
+        List<Long> tournamentIds = gameLogRepository.findTournamentIdsWithMissingStreaks();
+        if (tournamentIds.isEmpty()) {
+            return;
+        }
+
+        int updated = 0;
+        for (Long tournamentId : tournamentIds) {
+            List<GameLog> gameLogs = gameLogRepository.findByTournamentIdOrderByRoundAsc(tournamentId);
+            updated += fillStreaks(gameLogs);
+        }
+
+        log.info("Backfilled streaks for {} games in {} tournaments", updated, tournamentIds.size());
+    }
+
+    private int fillStreaks(List<GameLog> gameLogs) {
+        int updated = 0;
+        Long kingId = null;
+        int kingStreak = 0;
+
+        for (GameLog game : gameLogs) {
+            if (game.getWinner() == null) {
+                continue;
+            }
+
+            Long winnerId = game.getWinner().getId();
+            Long loserId = game.getPlayer1().getId().equals(winnerId) ?
+                          game.getPlayer2().getId() : game.getPlayer1().getId();
+            int loserStreak = loserId.equals(kingId) ? kingStreak : 0;
+
+            if (winnerId.equals(kingId)) {
+                kingStreak++;
+            } else {
+                kingId = winnerId;
+                kingStreak = 1;
+            }
+
+            if (game.getWinnerStreak() == null) {
+                game.setWinnerStreak(kingStreak);
+                game.setLoserStreak(loserStreak);
+                updated++;
+            }
+        }
+        return updated;
+    }
+}
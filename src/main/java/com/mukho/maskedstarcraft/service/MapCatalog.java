@@ -0,0 +1,95 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.mukho.maskedstarcraft.entity.Map;
+
+/**
+ * 활성 맵 목록의 불변 스냅샷. {@link MapService}가 맵 추가/삭제 시 새로 만든다.
+ * 가중치 선택용 별칭(alias) 테이블을 미리 만들어 두어 어떤 방식이든 O(1)로 고른다.
+ */
+public final class MapCatalog {
+    
+    private final List<Map> maps;
+    private final Set<Long> mapIds;
+    private final double[] probability;
+    private final int[] alias;
+    
+    private MapCatalog(List<Map> maps) {
+        this.maps = List.copyOf(maps);
+        this.mapIds = maps.stream().map(Map::getId).collect(Collectors.toUnmodifiableSet());
+        this.probability = new double[maps.size()];
+        this.alias = new int[maps.size()];
+        buildAliasTable();
+    }
+    
+    public static MapCatalog of(List<Map> maps) {
+        return new MapCatalog(maps);
+    }
+    
+    public List<Map> getMaps() {
+        return maps;
+    }
+    
+    public boolean isEmpty() {
+        return maps.isEmpty();
+    }
+    
+    public int size() {
+        return maps.size();
+    }
+    
+    public boolean contains(Long mapId) {
+        return mapIds.contains(mapId);
+    }
+    
+    public Map pickUniform(Random random) {
+        return maps.get(random.nextInt(maps.size()));
+    }
+    
+    public Map pickWeighted(Random random) {
+        int column = random.nextInt(maps.size());
+        return maps.get(random.nextDouble() < probability[column] ? column : alias[column]);
+    }
+    
+    private static int weightOf(Map map) {
+        return map.getWeight() == null || map.getWeight() < 1 ? 1 : map.getWeight();
+    }
+    
+    // Vose의 alias method
+    private void buildAliasTable() {
+        int n = maps.size();
+        if (n == 0) {
+            return;
+        }
+        
+        long totalWeight = maps.stream().mapToLong(MapCatalog::weightOf).sum();
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = (double) weightOf(maps.get(i)) * n / totalWeight;
+            (scaled[i] < 1.0 ? small : large).push(i);
+        }
+        
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            (scaled[more] < 1.0 ? small : large).push(more);
+        }
+        while (!large.isEmpty()) {
+            probability[large.pop()] = 1.0;
+        }
+        while (!small.isEmpty()) {
+            probability[small.pop()] = 1.0;
+        }
+    }
+}
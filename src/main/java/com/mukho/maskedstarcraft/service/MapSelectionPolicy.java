@@ -0,0 +1,31 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.Random;
+
+import com.mukho.maskedstarcraft.entity.Map;
+
+/**
+ * 경기 맵 선택 방식. tournament.map-selection 속성으로 고른다 (uniform, weighted, bag).
+ */
+public interface MapSelectionPolicy {
+    
+    /**
+     * 대회 하나에 쓸 선택기를 만든다. 선택기는 대회 상태와 함께 쓰기 락 안에서만 사용된다.
+     */
+    Selector newSelector();
+    
+    /**
+     * random은 라운드마다 새로 주어진다. 시드가 있는 대회는 시드와 라운드로 정해지므로
+     * 재시작 후에도 이전 선택 횟수와 관계없이 같은 맵 순서가 이어진다.
+     */
+    interface Selector {
+        
+        Map next(MapCatalog catalog, Random random);
+        
+        /**
+         * 재시작 후 상태 재구성 시 이미 진행된 경기의 맵과 그 라운드의 random을 알려준다.
+         */
+        default void replay(Map map, MapCatalog catalog, Random random) {
+        }
+    }
+}
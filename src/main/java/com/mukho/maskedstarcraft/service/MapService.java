@@ -9,8 +9,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +25,29 @@ public class MapService {
     
     private final MapRepository mapRepository;
     
+    // 활성 맵 스냅샷과 읽을 때의 버전, 맵 추가/삭제 시 버전이 올라가 다음 조회 때 다시 읽음
+    private final AtomicLong catalogVersion = new AtomicLong(1);
+    private final AtomicReference<CachedCatalog> catalog = new AtomicReference<>();
+    
+    /**
+     * 경기 맵 선택에 쓰는 활성 맵 스냅샷. 변경이 없으면 DB를 다시 조회하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public MapCatalog getCatalog() {
+        CachedCatalog current = catalog.get();
+        if (current != null && current.version() == catalogVersion.get()) {
+            return current.catalog();
+        }
+        
+        long loadedVersion = catalogVersion.get();
+        MapCatalog loaded = MapCatalog.of(mapRepository.findAllActiveMaps());
+        // 조회하는 사이 무효화됐으면 이번 결과는 이 요청에만 쓰고 캐시에는 두지 않음
+        if (catalogVersion.get() == loadedVersion) {
+            catalog.set(new CachedCatalog(loadedVersion, loaded));
+        }
+        return loaded;
+    }
+    
     public MapResponse createMap(MapCreateRequest request) {
         // 맵 이름 중복 체크
         if (mapRepository.existsByNameAndIsDeletedFalse(request.getName())) {
@@ -29,9 +56,11 @@ public class MapService {
         
         Map map = Map.builder()
                 .name(request.getName())
+                .weight(request.getWeight() != null ? request.getWeight() : 1)
                 .build();
         
         Map savedMap = mapRepository.save(map);
+        invalidateCatalog();
         log.info("New map created: {}", request.getName());
         
         return MapResponse.from(savedMap);
@@ -39,7 +68,7 @@ public class MapService {
     
     @Transactional(readOnly = true)
     public List<MapResponse> getAllMaps() {
-        return mapRepository.findAllActiveMaps().stream()
+        return getCatalog().getMaps().stream()
                 .map(MapResponse::from)
                 .collect(Collectors.toList());
     }
@@ -50,10 +79,27 @@ public class MapService {
         
         map.setIsDeleted(true);
         mapRepository.save(map);
+        invalidateCatalog();
         
         log.info("Map deleted: {}", map.getName());
     }
     
+    private void invalidateCatalog() {
+        catalogVersion.incrementAndGet();
+        // 커밋 전에 다른 요청이 옛 목록을 다시 읽어 둘 수 있으므로 커밋 후 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    catalogVersion.incrementAndGet();
+                }
+            });
+        }
+    }
+    
+    private record CachedCatalog(long version, MapCatalog catalog) {
+    }
+    
     public static class MapAlreadyExistsException extends BusinessException {
         public MapAlreadyExistsException(String mapName) {
             super("이미 존재하는 맵 이름입니다: " + mapName);
@@ -0,0 +1,131 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mukho.maskedstarcraft.dto.response.MapResponse;
+import com.mukho.maskedstarcraft.dto.response.MapStatsResponse;
+import com.mukho.maskedstarcraft.entity.Map;
+import com.mukho.maskedstarcraft.repository.GameLogRepository;
+import com.mukho.maskedstarcraft.repository.MapMatchupCountView;
+import com.mukho.maskedstarcraft.repository.MapRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 맵별 종족 조합 승수 집계. 맵 id마다 [승자 종족][패자 종족] 3x3 카운터 배열 하나만 유지한다.
+ * 경기 결과 커밋 후 증분 갱신하고, 시작 시 경기 기록 집계 쿼리 한 번으로 다시 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class MapStatsService {
+    
+    private static final String[] RACES = {"테란", "저그", "프로토스"};
+    
+    private final MapRepository mapRepository;
+    private final GameLogRepository gameLogRepository;
+    
+    // 맵 id -> 승수 카운터 (index = 승자 종족 * 3 + 패자 종족)
+    private final ConcurrentHashMap<Long, AtomicIntegerArray> winsByMap = new ConcurrentHashMap<>();
+    
+    public void rebuild() {
+        ConcurrentHashMap<Long, AtomicIntegerArray> rebuilt = new ConcurrentHashMap<>();
+        for (MapMatchupCountView row : gameLogRepository.countMatchupsByMap()) {
+            String loserRace = row.getWinnerRace().equals(row.getPlayer1Race()) ? row.getPlayer2Race() : row.getPlayer1Race();
+            int index = index(row.getWinnerRace(), loserRace);
+            if (index >= 0) {
+                rebuilt.computeIfAbsent(row.getMapId(), id -> new AtomicIntegerArray(RACES.length * RACES.length))
+                        .addAndGet(index, row.getGames().intValue());
+            }
+        }
+        
+        winsByMap.clear();
+        winsByMap.putAll(rebuilt);
+        log.info("Map matchup stats rebuilt for {} maps", rebuilt.size());
+    }
+    
+    /**
+     * 경기 결과를 집계에 더한다. 트랜잭션 안이면 커밋 후에 반영한다.
+     */
+    public void recordGame(TournamentState.CompletedGame game) {
+        Long mapId = game.getMap().getId();
+        int index = index(game.getWinner().getRace(), game.getLoser().getRace());
+        if (index < 0) {
+            return;
+        }
+        
+        Runnable increment = () -> winsByMap
+                .computeIfAbsent(mapId, id -> new AtomicIntegerArray(RACES.length * RACES.length))
+                .incrementAndGet(index);
+        
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment.run();
+            }
+        });
+    }
+    
+    public MapStatsResponse getMapStats(Long mapId) {
+        Map map = mapRepository.findById(mapId)
+                .orElseThrow(() -> new MapService.MapNotFoundException());
+        
+        AtomicIntegerArray wins = winsByMap.get(mapId);
+        List<MapStatsResponse.MatchupStats> matchups = new ArrayList<>();
+        int totalGames = 0;
+        
+        // 각 종족 조합을 한 번씩 (테란-테란, 테란-저그, 테란-프로토스, 저그-저그, ...)
+        for (int race = 0; race < RACES.length; race++) {
+            for (int opponent = race; opponent < RACES.length; opponent++) {
+                int raceWins = wins == null ? 0 : wins.get(race * RACES.length + opponent);
+                int opponentWins = race == opponent || wins == null ? 0 : wins.get(opponent * RACES.length + race);
+                int games = raceWins + opponentWins;
+                totalGames += games;
+                
+                matchups.add(MapStatsResponse.MatchupStats.builder()
+                        .race(RACES[race])
+                        .opponentRace(RACES[opponent])
+                        .games(games)
+                        .wins(raceWins)
+                        .losses(race == opponent ? raceWins : opponentWins)
+                        .winRate(games == 0 ? null : race == opponent ? 0.5 : (double) raceWins / games)
+                        .build());
+            }
+        }
+        
+        return MapStatsResponse.builder()
+                .map(MapResponse.from(map))
+                .totalGames(totalGames)
+                .matchups(matchups)
+                .build();
+    }
+    
+    private int index(String winnerRace, String loserRace) {
+        int winner = raceIndex(winnerRace);
+        int loser = raceIndex(loserRace);
+        return winner < 0 || loser < 0 ? -1 : winner * RACES.length + loser;
+    }
+    
+    private int raceIndex(String race) {
+        for (int i = 0; i < RACES.length; i++) {
+            if (RACES[i].equals(race)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,159 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용 중인 닉네임의 메모리 색인. 블룸 필터가 "확실히 없음"을 먼저 걸러내고, 걸리면 집합에서 확인한다.
+ * users.nickname UNIQUE 제약은 삭제된 사용자까지 포함하므로 삭제해도 색인에서 빼지 않는다.
+ * 색인은 빠른 안내용이고, 최종 판단은 DB 제약이 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NicknameIndex {
+
+    private static final int MIN_CAPACITY = 1024;
+
+    private final UserRepository userRepository;
+
+    // 소문자로 정규화한 닉네임 (MySQL 기본 정렬 규칙은 대소문자를 구분하지 않음)
+    private final Set<String> nicknames = ConcurrentHashMap.newKeySet();
+    private volatile BloomFilter filter = new BloomFilter(MIN_CAPACITY);
+    private volatile boolean loaded;
+
+    /**
+     * 시작 시 전체 닉네임을 읽어 색인을 만든다. 그 전까지는 DB로 확인한다.
+     */
+    public synchronized void rebuild() {
+        List<String> all = userRepository.findAllNicknames();
+        nicknames.clear();
+        all.forEach(nickname -> nicknames.add(normalize(nickname)));
+        filter = BloomFilter.of(nicknames);
+        loaded = true;
+        log.info("Nickname index loaded: {} nicknames", nicknames.size());
+    }
+
+    public boolean isTaken(String nickname) {
+        if (!loaded) {
+            return userRepository.existsByNickname(nickname);
+        }
+        String key = normalize(nickname);
+        return filter.mightContain(key) && nicknames.contains(key);
+    }
+
+    /**
+     * 사용자를 저장한 트랜잭션 안에서 호출한다. 커밋된 뒤에 색인에 반영된다.
+     */
+    public void register(String nickname) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(nickname);
+                }
+            });
+        } else {
+            add(nickname);
+        }
+    }
+
+    private synchronized void add(String nickname) {
+        String key = normalize(nickname);
+        if (!nicknames.add(key)) {
+            return;
+        }
+        if (nicknames.size() > filter.capacity()) {
+            // 정원을 넘기면 오탐률이 올라가므로 두 배 크기로 다시 만듦
+            filter = BloomFilter.of(nicknames);
+        } else {
+            filter.put(key);
+        }
+    }
+
+    private static String normalize(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정원 기준 약 1% 오탐률의 블룸 필터 (원소당 10비트, 해시 7개, 이중 해싱).
+     * 비트 배열은 AtomicLongArray라 조회는 락 없이 할 수 있다.
+     */
+    static final class BloomFilter {
+
+        private static final int BITS_PER_ELEMENT = 10;
+        private static final int HASHES = 7;
+
+        private final int capacity;
+        private final long bitCount;
+        private final AtomicLongArray bits;
+
+        BloomFilter(int capacity) {
+            this.capacity = capacity;
+            this.bitCount = (long) capacity * BITS_PER_ELEMENT;
+            this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        }
+
+        static BloomFilter of(Set<String> keys) {
+            BloomFilter filter = new BloomFilter(Math.max(MIN_CAPACITY, keys.size() * 2));
+            keys.forEach(filter::put);
+            return filter;
+        }
+
+        int capacity() {
+            return capacity;
+        }
+
+        void put(String key) {
+            long hash = hash(key);
+            for (int i = 0; i < HASHES; i++) {
+                long index = bitIndex(hash, i);
+                long mask = 1L << index;
+                int word = (int) (index >>> 6);
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash(key);
+            for (int i = 0; i < HASHES; i++) {
+                long index = bitIndex(hash, i);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long bitIndex(long hash, int i) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            return Math.floorMod((long) h1 + (long) i * h2, bitCount);
+        }
+
+        // 64비트 FNV-1a
+        private static long hash(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mukho.maskedstarcraft.dto.request.ApplyRequest;
+import com.mukho.maskedstarcraft.dto.response.PlayerImportResponse;
+import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.entity.User;
+import com.mukho.maskedstarcraft.exception.BusinessException;
+import com.mukho.maskedstarcraft.repository.TournamentRepository;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자용 참가자 일괄 등록 (CSV / JSON).
+ * 닉네임 중복은 한 번의 IN 조회로 확인하고, 유효한 행만 한 트랜잭션 안에서 JDBC 배치로 넣는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class PlayerImportService {
+
+    private static final int MAX_IMPORT_ROWS = 2000;
+    private static final int BATCH_SIZE = 500;
+    private static final List<String> CSV_COLUMNS = List.of("name", "nickname", "password", "race");
+    private static final String INSERT_SQL = "INSERT INTO users (name, nickname, password, race, role, is_deleted, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final UserRepository userRepository;
+    private final TournamentRepository tournamentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Validator validator;
+    private final PlayerRosterCache playerRosterCache;
+    private final NicknameIndex nicknameIndex;
+
+    public PlayerImportResponse importJson(List<ApplyRequest> requests) {
+        List<ImportRow> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            rows.add(new ImportRow(i + 1, requests.get(i) != null ? requests.get(i) : new ApplyRequest()));
+        }
+        return importRows(rows);
+    }
+
+    /**
+     * 열 순서는 name,nickname,password,race. 첫 줄에 nickname이 있으면 헤더로 보고 열 이름으로 매핑한다.
+     */
+    public PlayerImportResponse importCsv(String csv) {
+        List<ImportRow> rows = new ArrayList<>();
+        // 엑셀에서 UTF-8로 저장한 파일의 BOM 제거
+        String[] lines = csv.replace("\uFEFF", "").split("\r?\n");
+
+        int[] columnIndexes = { 0, 1, 2, 3 };
+        int first = 0;
+        if (lines.length > 0 && parseCsvLine(lines[0]).stream().anyMatch(cell -> cell.equalsIgnoreCase("nickname"))) {
+            columnIndexes = headerIndexes(parseCsvLine(lines[0]));
+            first = 1;
+        }
+
+        for (int i = first; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            List<String> cells = parseCsvLine(lines[i]);
+            ApplyRequest request = new ApplyRequest();
+            request.setName(cell(cells, columnIndexes[0]));
+            request.setNickname(cell(cells, columnIndexes[1]));
+            request.setPassword(cell(cells, columnIndexes[2]));
+            request.setRace(cell(cells, columnIndexes[3]));
+            rows.add(new ImportRow(i + 1, request));
+        }
+        return importRows(rows);
+    }
+
+    private PlayerImportResponse importRows(List<ImportRow> rows) {
+        // 참가 신청과 같이 진행 중인 대회가 있으면 받지 않음
+        if (tournamentRepository.existsByStatus(Tournament.Status.IN_PROGRESS)) {
+            throw new AuthService.TournamentInProgressException();
+        }
+        if (rows.size() > MAX_IMPORT_ROWS) {
+            throw new ImportTooLargeException(MAX_IMPORT_ROWS);
+        }
+
+        List<PlayerImportResponse.RowError> errors = new ArrayList<>();
+        List<ImportRow> candidates = new ArrayList<>(rows.size());
+
+        // 1. 형식 검증 (참가 신청과 같은 규칙)
+        for (ImportRow row : rows) {
+            Set<ConstraintViolation<ApplyRequest>> violations = validator.validate(row.request());
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .findFirst()
+                        .orElseThrow();
+                errors.add(new PlayerImportResponse.RowError(row.row(), row.request().getNickname(), message));
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        // 2. 닉네임 중복 - 기존 사용자는 한 번의 조회로, 파일 안의 중복은 메모리에서
+        //    (MySQL 기본 정렬 규칙은 대소문자를 구분하지 않으므로 소문자로 비교)
+        Set<String> taken = new HashSet<>();
+        if (!candidates.isEmpty()) {
+            userRepository.findNicknamesIn(candidates.stream()
+                            .map(row -> row.request().getNickname())
+                            .toList())
+                    .forEach(nickname -> taken.add(nickname.toLowerCase(Locale.ROOT)));
+        }
+
+        // 파일 순서가 참가 순서가 되도록 created_at을 1마이크로초씩 늘림
+        LocalDateTime now = LocalDateTime.now();
+        List<NewPlayer> accepted = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            String nickname = row.request().getNickname();
+            if (taken.add(nickname.toLowerCase(Locale.ROOT))) {
+                accepted.add(new NewPlayer(row.request(), now.plusNanos(accepted.size() * 1000L)));
+            } else {
+                errors.add(new PlayerImportResponse.RowError(row.row(), nickname, "이미 존재하는 닉네임입니다: " + nickname));
+            }
+        }
+
+        // 3. JDBC 배치 삽입 (Hibernate IDENTITY 저장은 배치가 되지 않음)
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, accepted, BATCH_SIZE, (ps, player) -> {
+                ApplyRequest request = player.request();
+                ps.setString(1, request.getName());
+                ps.setString(2, request.getNickname());
+                ps.setString(3, request.getPassword());  // 평문 저장 (참가 신청과 동일)
+                ps.setString(4, request.getRace());
+                ps.setString(5, User.Role.PLAYER.name());
+                ps.setBoolean(6, false);
+                ps.setTimestamp(7, Timestamp.valueOf(player.createdAt()));
+            });
+        } catch (DuplicateKeyException e) {
+            // 확인 이후 같은 닉네임이 먼저 등록된 경우 - 전체 롤백
+            throw new ImportConflictException();
+        }
+        if (!accepted.isEmpty()) {
+            accepted.forEach(player -> nicknameIndex.register(player.request().getNickname()));
+            playerRosterCache.invalidate();
+        }
+
+        errors.sort(Comparator.comparing(PlayerImportResponse.RowError::getRow));
+        log.info("Imported {} of {} players ({} rejected)", accepted.size(), rows.size(), errors.size());
+
+        return PlayerImportResponse.builder()
+                .total(rows.size())
+                .imported(accepted.size())
+                .failed(errors.size())
+                .errors(errors)
+                .build();
+    }
+
+    private int[] headerIndexes(List<String> header) {
+        int[] indexes = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            indexes[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                if (header.get(j).equalsIgnoreCase(CSV_COLUMNS.get(i))) {
+                    indexes[i] = j;
+                }
+            }
+        }
+        return indexes;
+    }
+
+    private String cell(List<String> cells, int index) {
+        return index >= 0 && index < cells.size() ? cells.get(index) : null;
+    }
+
+    /**
+     * 큰따옴표로 감싼 값과 "" 이스케이프를 지원하는 CSV 한 줄 파서
+     */
+    private List<String> parseCsvLine(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString().trim());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString().trim());
+        return cells;
+    }
+
+    private record ImportRow(int row, ApplyRequest request) {
+    }
+
+    private record NewPlayer(ApplyRequest request, LocalDateTime createdAt) {
+    }
+
+    public static class ImportConflictException extends BusinessException {
+        public ImportConflictException() {
+            super("등록 중 다른 요청과 닉네임이 겹쳤습니다. 다시 시도해 주세요");
+        }
+    }
+
+    public static class ImportTooLargeException extends BusinessException {
+        public ImportTooLargeException(int maxRows) {
+            super("한 번에 최대 " + maxRows + "명까지 등록할 수 있습니다");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.mukho.maskedstarcraft.dto.response.PlayerStatsResponse;
+
+/**
+ * 통산 기록 순위 인덱스. 정렬된 집합을 유지하므로 상위 N명 조회는 앞에서 N개만 읽는다.
+ * 순위: 승수 > 우승 횟수 > 최다 연승 > 적은 패수 > 먼저 가입한 플레이어
+ */
+@Component
+public class PlayerLeaderboard {
+    
+    private static final Comparator<PlayerStatsResponse> RANKING = Comparator
+            .comparing(PlayerStatsResponse::getWins, Comparator.reverseOrder())
+            .thenComparing(PlayerStatsResponse::getTitles, Comparator.reverseOrder())
+            .thenComparing(PlayerStatsResponse::getLongestStreak, Comparator.reverseOrder())
+            .thenComparing(PlayerStatsResponse::getLosses)
+            .thenComparing(stats -> stats.getPlayer().getId());
+    
+    private final ConcurrentSkipListSet<PlayerStatsResponse> ranking = new ConcurrentSkipListSet<>(RANKING);
+    private final Map<Long, PlayerStatsResponse> byPlayerId = new ConcurrentHashMap<>();
+    
+    public List<PlayerStatsResponse> top(int limit) {
+        return ranking.stream()
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+    
+    public Optional<PlayerStatsResponse> get(Long playerId) {
+        return Optional.ofNullable(byPlayerId.get(playerId));
+    }
+    
+    /**
+     * 한 플레이어의 기록을 교체한다. 전달된 객체는 이후 변경하지 않아야 한다.
+     */
+    public synchronized void put(PlayerStatsResponse stats) {
+        PlayerStatsResponse previous = byPlayerId.put(stats.getPlayer().getId(), stats);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        ranking.add(stats);
+    }
+    
+    /**
+     * 삭제된 플레이어를 순위에서 뺀다.
+     */
+    public synchronized void remove(Long playerId) {
+        PlayerStatsResponse previous = byPlayerId.remove(playerId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+    
+    public synchronized void clear() {
+        ranking.clear();
+        byPlayerId.clear();
+    }
+    
+    public synchronized void reset(Collection<PlayerStatsResponse> allStats) {
+        clear();
+        allStats.forEach(this::put);
+    }
+}
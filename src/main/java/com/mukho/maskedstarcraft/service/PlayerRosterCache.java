@@ -0,0 +1,94 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mukho.maskedstarcraft.dto.response.ApiResponse;
+import com.mukho.maskedstarcraft.dto.response.PlayerResponse;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 참가자 목록 캐시. 한 번의 프로젝션 조회로 관리자용(이름 포함)과 공개용 응답을 함께 만들어 직렬화해 둔다.
+ * 참가 신청, 일괄 등록, 삭제, 참가 취소 시 버전이 올라가고 다음 조회 때 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerRosterCache {
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong version = new AtomicLong(1);
+    private final AtomicReference<Roster> roster = new AtomicReference<>();
+
+    @Transactional(readOnly = true)
+    public ResponseSnapshot get(boolean admin) {
+        Roster current = roster.get();
+        if (current == null || current.version() != version.get()) {
+            current = load();
+        }
+        return admin ? current.adminView() : current.publicView();
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 참가자 목록이 바뀌는 트랜잭션 안에서 호출한다.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        // 커밋 전에 다른 요청이 옛 목록으로 캐시를 다시 채울 수 있으므로 커밋 후 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private Roster load() {
+        long loadedVersion = version.get();
+        List<PlayerResponse> players = userRepository.findActivePlayerRoster();
+        List<PlayerResponse> publicPlayers = players.stream()
+                .map(player -> new PlayerResponse(player.getId(), null, player.getNickname(), player.getRace()))
+                .collect(Collectors.toList());
+
+        Roster loaded = new Roster(loadedVersion,
+                ResponseSnapshot.of(loadedVersion, serialize(players)),
+                ResponseSnapshot.of(loadedVersion, serialize(publicPlayers)));
+        // 조회하는 사이 무효화됐으면 이번 결과는 이 요청에만 쓰고 캐시에는 두지 않음
+        if (version.get() == loadedVersion) {
+            roster.set(loaded);
+        }
+        log.debug("Player roster loaded: {} players (version {})", players.size(), loadedVersion);
+        return loaded;
+    }
+
+    private byte[] serialize(List<PlayerResponse> players) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.success(players));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize player roster", e);
+        }
+    }
+
+    private record Roster(long version, ResponseSnapshot adminView, ResponseSnapshot publicView) {
+    }
+}
@@ -1,13 +1,9 @@
 package com.mukho.maskedstarcraft.service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.mukho.maskedstarcraft.dto.response.PlayerResponse;
 import com.mukho.maskedstarcraft.entity.Tournament;
 import com.mukho.maskedstarcraft.entity.User;
 import com.mukho.maskedstarcraft.exception.BusinessException;
@@ -25,23 +21,18 @@ public class PlayerService {
     
     private final UserRepository userRepository;
     private final TournamentRepository tournamentRepository;
+    private final TournamentStateEngine tournamentStateEngine;
+    private final PlayerRosterCache playerRosterCache;
+    private final PlayerStatsService playerStatsService;
     
+    /**
+     * 참가자 목록 응답. 관리자에게는 이름이 포함된 목록을, 그 외에는 공개용 목록을 준다.
+     */
     @Transactional(readOnly = true)
-    public List<PlayerResponse> getPlayers() {
-        List<User> players = userRepository.findActivePlayersOrderByCreatedAt();
-        
+    public ResponseSnapshot getPlayerRoster() {
         // 현재 사용자의 권한 확인
         String currentUserRole = getCurrentUserRole();
-        
-        if ("ADMIN".equals(currentUserRole)) {
-            return players.stream()
-                    .map(PlayerResponse::from)
-                    .collect(Collectors.toList());
-        } else {
-            return players.stream()
-                    .map(PlayerResponse::fromPublic)
-                    .collect(Collectors.toList());
-        }
+        return playerRosterCache.get("ADMIN".equals(currentUserRole));
     }
     
     public void deletePlayer(Long playerId) {
@@ -54,12 +45,18 @@ public class PlayerService {
         
         player.setIsDeleted(true);
         userRepository.save(player);
+        tournamentStateEngine.onPlayerRemoved(player.getId());
+        playerStatsService.removePlayer(player.getId());
+        playerRosterCache.invalidate();
         
         log.info("Player deleted: {}", player.getNickname());
     }
     
     public void deleteAllPlayers() {
         userRepository.softDeleteAllPlayers();
+        tournamentStateEngine.onAllPlayersRemoved();
+        playerStatsService.removeAllPlayers();
+        playerRosterCache.invalidate();
         log.info("All players deleted");
     }
     
@@ -90,6 +87,8 @@ public class PlayerService {
         
         player.setIsDeleted(true);
         userRepository.save(player);
+        playerStatsService.removePlayer(player.getId());
+        playerRosterCache.invalidate();
         
         log.info("Player canceled participation: {}", player.getNickname());
     }
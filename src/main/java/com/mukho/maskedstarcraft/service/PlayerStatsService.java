@@ -0,0 +1,218 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mukho.maskedstarcraft.dto.response.PlayerResponse;
+import com.mukho.maskedstarcraft.dto.response.PlayerStatsResponse;
+import com.mukho.maskedstarcraft.entity.GameLog;
+import com.mukho.maskedstarcraft.entity.PlayerCareerStats;
+import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.entity.User;
+import com.mukho.maskedstarcraft.exception.BusinessException;
+import com.mukho.maskedstarcraft.repository.GameLogRepository;
+import com.mukho.maskedstarcraft.repository.PlayerCareerStatsRepository;
+import com.mukho.maskedstarcraft.repository.TournamentRepository;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 플레이어 통산 기록. 경기/대회 결과가 기록될 때 같은 트랜잭션에서 조회 없이 증분을 더하고,
+ * 커밋 후 같은 증분을 순위 인덱스({@link PlayerLeaderboard})의 현재 기록에 더한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class PlayerStatsService {
+    
+    private static final int DEFAULT_LEADERBOARD_SIZE = 10;
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+    
+    private final PlayerCareerStatsRepository playerCareerStatsRepository;
+    private final UserRepository userRepository;
+    private final GameLogRepository gameLogRepository;
+    private final TournamentRepository tournamentRepository;
+    private final PlayerLeaderboard playerLeaderboard;
+    
+    public void recordGame(TournamentState.CompletedGame game) {
+        User winner = game.getWinner();
+        User loser = game.getLoser();
+        
+        PlayerCareerStats winnerDelta = delta(winner);
+        winnerDelta.recordWin(loser.getRace(), game.getStreak());
+        PlayerCareerStats loserDelta = delta(loser);
+        loserDelta.recordLoss(winner.getRace());
+        
+        addStats(winner, winnerDelta);
+        addStats(loser, loserDelta);
+    }
+    
+    public void recordTitle(User champion) {
+        PlayerCareerStats delta = delta(champion);
+        delta.recordTitle();
+        
+        addStats(champion, delta);
+    }
+    
+    @Transactional(readOnly = true)
+    public PlayerStatsResponse getStats(Long playerId) {
+        return playerLeaderboard.get(playerId)
+                .orElseGet(() -> {
+                    User player = userRepository.findById(playerId)
+                            .filter(user -> user.getRole() == User.Role.PLAYER && !Boolean.TRUE.equals(user.getIsDeleted()))
+                            .orElseThrow(PlayerNotFoundException::new);
+                    return toResponse(PlayerCareerStats.builder().userId(playerId).build(), player);
+                });
+    }
+    
+    /**
+     * 삭제된 플레이어를 커밋 후 순위에서 뺀다. 통산 기록 행은 경기 기록과 함께 남겨 둔다.
+     */
+    public void removePlayer(Long playerId) {
+        afterCommit(() -> playerLeaderboard.remove(playerId));
+    }
+    
+    public void removeAllPlayers() {
+        afterCommit(playerLeaderboard::clear);
+    }
+    
+    public List<PlayerStatsResponse> getLeaderboard(Integer limit) {
+        int size = limit == null || limit <= 0 ? DEFAULT_LEADERBOARD_SIZE : Math.min(limit, MAX_LEADERBOARD_SIZE);
+        return playerLeaderboard.top(size);
+    }
+    
+    /**
+     * 시작 시 순위 인덱스를 DB에서 채운다. 통산 기록 테이블이 비어 있으면 기존 경기 기록으로 한 번 만든다.
+     */
+    public void loadLeaderboard() {
+        if (playerCareerStatsRepository.count() == 0) {
+            backfillFromHistory();
+        }
+        
+        List<PlayerStatsResponse> allStats = playerCareerStatsRepository.findAllOfActivePlayers().stream()
+                .map(stats -> toResponse(stats, stats.getUser()))
+                .collect(Collectors.toList());
+        playerLeaderboard.reset(allStats);
+        
+        log.info("Player leaderboard loaded: {} players", allStats.size());
+    }
+    
+    private void backfillFromHistory() {
+        Map<Long, PlayerCareerStats> statsByUser = new LinkedHashMap<>();
+        
+        try (Stream<GameLog> games = gameLogRepository.streamFinishedGames()) {
+            games.forEach(game -> {
+                User winner = game.getWinner();
+                User loser = game.getPlayer1().getId().equals(winner.getId()) ? game.getPlayer2() : game.getPlayer1();
+                int streak = game.getWinnerStreak() != null ? game.getWinnerStreak() : 0;
+                
+                statsByUser.computeIfAbsent(winner.getId(), id -> newStats(winner)).recordWin(loser.getRace(), streak);
+                statsByUser.computeIfAbsent(loser.getId(), id -> newStats(loser)).recordLoss(winner.getRace());
+            });
+        }
+        
+        for (Tournament tournament : tournamentRepository.findFinishedTournamentsWithWinner()) {
+            User champion = tournament.getWinnerUser();
+            statsByUser.computeIfAbsent(champion.getId(), id -> newStats(champion)).recordTitle();
+        }
+        
+        if (!statsByUser.isEmpty()) {
+            playerCareerStatsRepository.saveAll(statsByUser.values());
+            log.info("Built career stats for {} players from game history", statsByUser.size());
+        }
+    }
+    
+    private PlayerCareerStats delta(User player) {
+        return PlayerCareerStats.builder()
+                .userId(player.getId())
+                .build();
+    }
+    
+    /**
+     * DB에는 upsert 한 번으로 더하고, 순위 인덱스에는 커밋 후 현재 기록에 더해 반영한다.
+     * 같은 트랜잭션의 경기 결과와 우승이 등록 순서대로 누적된다.
+     */
+    private void addStats(User player, PlayerCareerStats delta) {
+        playerCareerStatsRepository.addStats(delta);
+        
+        afterCommit(() -> {
+            PlayerCareerStats stats = playerLeaderboard.get(player.getId())
+                    .map(this::toStats)
+                    .orElseGet(() -> delta(player));
+            stats.add(delta);
+            playerLeaderboard.put(toResponse(stats, player));
+        });
+    }
+    
+    private PlayerCareerStats newStats(User user) {
+        return PlayerCareerStats.builder()
+                .user(user)
+                .build();
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    private PlayerStatsResponse toResponse(PlayerCareerStats stats, User player) {
+        int games = stats.getWins() + stats.getLosses();
+        
+        Map<String, PlayerStatsResponse.RaceRecord> raceRecords = new LinkedHashMap<>();
+        raceRecords.put("테란", new PlayerStatsResponse.RaceRecord(stats.getVsTerranWins(), stats.getVsTerranLosses()));
+        raceRecords.put("저그", new PlayerStatsResponse.RaceRecord(stats.getVsZergWins(), stats.getVsZergLosses()));
+        raceRecords.put("프로토스", new PlayerStatsResponse.RaceRecord(stats.getVsProtossWins(), stats.getVsProtossLosses()));
+        
+        return PlayerStatsResponse.builder()
+                .player(PlayerResponse.fromPublic(player))
+                .wins(stats.getWins())
+                .losses(stats.getLosses())
+                .winRate(games == 0 ? 0.0 : (double) stats.getWins() / games)
+                .longestStreak(stats.getLongestStreak())
+                .titles(stats.getTitles())
+                .raceRecords(raceRecords)
+                .build();
+    }
+    
+    private PlayerCareerStats toStats(PlayerStatsResponse response) {
+        Map<String, PlayerStatsResponse.RaceRecord> raceRecords = response.getRaceRecords();
+        return PlayerCareerStats.builder()
+                .userId(response.getPlayer().getId())
+                .wins(response.getWins())
+                .losses(response.getLosses())
+                .longestStreak(response.getLongestStreak())
+                .titles(response.getTitles())
+                .vsTerranWins(raceRecords.get("테란").getWins())
+                .vsTerranLosses(raceRecords.get("테란").getLosses())
+                .vsZergWins(raceRecords.get("저그").getWins())
+                .vsZergLosses(raceRecords.get("저그").getLosses())
+                .vsProtossWins(raceRecords.get("프로토스").getWins())
+                .vsProtossLosses(raceRecords.get("프로토스").getLosses())
+                .build();
+    }
+    
+    public static class PlayerNotFoundException extends BusinessException {
+        public PlayerNotFoundException() {
+            super("플레이어를 찾을 수 없습니다");
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.mukho.maskedstarcraft.dto.request.ApplyRequest;
+import com.mukho.maskedstarcraft.dto.response.PlayerImportResponse;
+import com.mukho.maskedstarcraft.dto.response.RegistrationTicketResponse;
+import com.mukho.maskedstarcraft.exception.BusinessException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 참가 신청 접수 대기열 (registration.intake.enabled=true일 때 사용).
+ * 요청 스레드는 형식과 닉네임만 확인하고 크기가 정해진 대기열에 넣은 뒤 접수 번호를 돌려준다.
+ * 전용 스레드가 대기열을 묶음으로 꺼내 일괄 등록과 같은 JDBC 배치로 저장한다. 대기열이 가득 차면 429로 거절한다.
+ */
+@Service
+@Slf4j
+public class RegistrationIntakeService {
+
+    private final PlayerImportService playerImportService;
+    private final NicknameIndex nicknameIndex;
+    private final TournamentStateEngine tournamentStateEngine;
+    private final Validator validator;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<Ticket> queue;
+    private final ExecutorService drainer;
+
+    // 대기 중인 닉네임 (소문자), 같은 닉네임이 대기열에 두 번 들어가지 않게 함
+    private final Set<String> pendingNicknames = ConcurrentHashMap.newKeySet();
+    // 접수 번호 -> 처리 상태, 오래된 접수부터 제거
+    private final Map<String, Ticket> tickets;
+
+    public RegistrationIntakeService(PlayerImportService playerImportService,
+                                     NicknameIndex nicknameIndex,
+                                     TournamentStateEngine tournamentStateEngine,
+                                     Validator validator,
+                                     @Value("${registration.intake.enabled:false}") boolean enabled,
+                                     @Value("${registration.intake.queue-capacity:500}") int queueCapacity,
+                                     @Value("${registration.intake.batch-size:100}") int batchSize,
+                                     @Value("${registration.intake.max-tickets:5000}") int maxTickets) {
+        this.playerImportService = playerImportService;
+        this.nicknameIndex = nicknameIndex;
+        this.tournamentStateEngine = tournamentStateEngine;
+        this.validator = validator;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.tickets = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Ticket> eldest) {
+                return size() > maxTickets;
+            }
+        };
+        this.drainer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "registration-intake");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            drainer.execute(this::drainLoop);
+            log.info("Registration intake enabled (queue capacity {}, batch size {})", queue.remainingCapacity(),
+                    batchSize);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 참가 신청을 접수한다. 저장은 나중에 일어나므로 결과는 접수 번호로 조회한다.
+     */
+    public RegistrationTicketResponse submit(ApplyRequest request) {
+        Set<ConstraintViolation<ApplyRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new InvalidRegistrationException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .findFirst()
+                    .orElseThrow());
+        }
+        if (hasActiveTournament()) {
+            throw new AuthService.TournamentInProgressException();
+        }
+
+        String nickname = request.getNickname();
+        String key = nickname.toLowerCase(Locale.ROOT);
+        if (nicknameIndex.isTaken(nickname) || !pendingNicknames.add(key)) {
+            throw new AuthService.UserAlreadyExistsException(nickname);
+        }
+
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), request);
+        synchronized (tickets) {
+            tickets.put(ticket.id, ticket);
+        }
+        if (!queue.offer(ticket)) {
+            pendingNicknames.remove(key);
+            synchronized (tickets) {
+                tickets.remove(ticket.id);
+            }
+            throw new IntakeQueueFullException();
+        }
+        return ticket.toResponse();
+    }
+
+    public RegistrationTicketResponse getTicket(String ticketId) {
+        Ticket ticket;
+        synchronized (tickets) {
+            ticket = tickets.get(ticketId);
+        }
+        if (ticket == null) {
+            throw new TicketNotFoundException();
+        }
+        return ticket.toResponse();
+    }
+
+    private void drainLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<Ticket> batch = new ArrayList<>(batchSize);
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Registration intake batch failed", e);
+            }
+        }
+    }
+
+    /**
+     * 대기열에 쌓인 접수를 기다리지 않고 한 묶음 처리한다. 처리한 건수를 돌려준다 (비어 있으면 0).
+     */
+    int drainBatch() {
+        List<Ticket> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        if (!batch.isEmpty()) {
+            process(batch);
+        }
+        return batch.size();
+    }
+
+    private void process(List<Ticket> batch) {
+        try {
+            if (hasActiveTournament()) {
+                // 접수 이후 대회가 시작된 경우
+                reject(batch, new AuthService.TournamentInProgressException().getMessage());
+                return;
+            }
+
+            PlayerImportResponse result;
+            try {
+                result = playerImportService.importJson(batch.stream().map(ticket -> ticket.request).toList());
+            } catch (AuthService.TournamentInProgressException e) {
+                // 위 확인과 저장 사이에 대회가 시작된 경우
+                reject(batch, e.getMessage());
+                return;
+            } catch (PlayerImportService.ImportConflictException e) {
+                // 동기 신청과 닉네임이 겹쳐 묶음 전체가 롤백됨 - 한 건씩 다시 처리
+                if (batch.size() > 1) {
+                    batch.forEach(ticket -> process(List.of(ticket)));
+                } else {
+                    batch.get(0).complete(Status.REJECTED,
+                            new AuthService.UserAlreadyExistsException(batch.get(0).request.getNickname()).getMessage());
+                }
+                return;
+            }
+
+            Map<Integer, String> errors = new LinkedHashMap<>();
+            result.getErrors().forEach(error -> errors.put(error.getRow(), error.getMessage()));
+            for (int i = 0; i < batch.size(); i++) {
+                String error = errors.get(i + 1);
+                batch.get(i).complete(error == null ? Status.REGISTERED : Status.REJECTED, error);
+            }
+            log.info("Registration intake batch processed: {} registered, {} rejected",
+                    result.getImported(), result.getFailed());
+        } catch (Exception e) {
+            log.error("Failed to persist {} queued registrations", batch.size(), e);
+            batch.stream()
+                    .filter(ticket -> ticket.status == Status.QUEUED)
+                    .forEach(ticket -> ticket.complete(Status.FAILED, "서버 내부 오류가 발생했습니다. 다시 신청해 주세요"));
+        } finally {
+            batch.forEach(ticket -> pendingNicknames.remove(ticket.request.getNickname().toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    private void reject(List<Ticket> batch, String message) {
+        batch.forEach(ticket -> ticket.complete(Status.REJECTED, message));
+    }
+
+    private boolean hasActiveTournament() {
+        return !tournamentStateEngine.readActive(TournamentState::getTournamentId).isEmpty();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainer.shutdownNow();
+        try {
+            drainer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 접수는 종료 전에 저장
+        while (!queue.isEmpty()) {
+            drainBatch();
+        }
+    }
+
+    public enum Status {
+        QUEUED, REGISTERED, REJECTED, FAILED
+    }
+
+    private static class Ticket {
+        private final String id;
+        private final ApplyRequest request;
+        private final LocalDateTime acceptedAt = LocalDateTime.now();
+        private volatile Status status = Status.QUEUED;
+        private volatile String message;
+        private volatile LocalDateTime completedAt;
+
+        private Ticket(String id, ApplyRequest request) {
+            this.id = id;
+            this.request = request;
+        }
+
+        private void complete(Status status, String message) {
+            this.message = message;
+            this.completedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private RegistrationTicketResponse toResponse() {
+            return RegistrationTicketResponse.builder()
+                    .ticketId(id)
+                    .nickname(request.getNickname())
+                    .status(status.name())
+                    .message(message)
+                    .acceptedAt(acceptedAt)
+                    .completedAt(completedAt)
+                    .build();
+        }
+    }
+
+    public static class InvalidRegistrationException extends BusinessException {
+        public InvalidRegistrationException(String message) {
+            super(message);
+        }
+    }
+
+    public static class IntakeQueueFullException extends BusinessException {
+        public IntakeQueueFullException() {
+            super("참가 신청이 몰리고 있습니다. 잠시 후 다시 시도해 주세요");
+        }
+    }
+
+    public static class TicketNotFoundException extends BusinessException {
+        public TicketNotFoundException() {
+            super("접수 번호를 찾을 수 없습니다");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 특정 상태 버전의 직렬화된 응답 본문과 강한(strong) ETag. (현재 대회, 참가자 목록)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ResponseSnapshot {
+
+    private final long version;
+    private final byte[] body;
+    private final String etag;
+
+    static ResponseSnapshot of(long version, byte[] body) {
+        return new ResponseSnapshot(version, body, "\"" + digest(body) + "\"");
+    }
+
+    private static String digest(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(Arrays.copyOf(hash, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
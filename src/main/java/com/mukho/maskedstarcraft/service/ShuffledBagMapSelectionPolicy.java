@@ -0,0 +1,59 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.mukho.maskedstarcraft.entity.Map;
+
+/**
+ * 모든 맵을 한 번씩 쓰기 전에는 같은 맵이 다시 나오지 않는 방식 (섞은 주머니에서 하나씩 꺼냄).
+ * 주머니가 비면 현재 활성 맵으로 다시 채운다.
+ */
+@Component
+@ConditionalOnProperty(name = "tournament.map-selection", havingValue = "bag")
+public class ShuffledBagMapSelectionPolicy implements MapSelectionPolicy {
+    
+    @Override
+    public Selector newSelector() {
+        return new BagSelector();
+    }
+    
+    private static class BagSelector implements Selector {
+        
+        // 끝에서부터 꺼낸다 (O(1))
+        private final List<Map> bag = new ArrayList<>();
+        
+        @Override
+        public Map next(MapCatalog catalog, Random random) {
+            while (true) {
+                if (bag.isEmpty()) {
+                    refill(catalog, random);
+                }
+                Map map = bag.remove(bag.size() - 1);
+                // 주머니를 채운 뒤 삭제된 맵은 건너뜀
+                if (catalog.contains(map.getId())) {
+                    return map;
+                }
+            }
+        }
+        
+        @Override
+        public void replay(Map map, MapCatalog catalog, Random random) {
+            // 주머니를 다시 채운 라운드의 random으로 같은 순서를 만든다
+            if (bag.isEmpty()) {
+                refill(catalog, random);
+            }
+            bag.removeIf(candidate -> candidate.getId().equals(map.getId()));
+        }
+        
+        private void refill(MapCatalog catalog, Random random) {
+            bag.addAll(catalog.getMaps());
+            Collections.shuffle(bag, random);
+        }
+    }
+}
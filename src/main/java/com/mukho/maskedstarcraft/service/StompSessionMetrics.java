@@ -0,0 +1,144 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연결된 STOMP 세션 수와 토픽별 구독 수를 게이지로 노출한다.
+ * 관전자는 대부분 로그인하지 않으므로 SimpUserRegistry 대신 세션 이벤트로 직접 센다.
+ * 클라이언트가 임의의 목적지를 구독해도 태그 수가 늘지 않도록 알려진 토픽만 그대로 쓰고 나머지는 "other"로 묶는다.
+ * 구독이 모두 사라진 토픽의 게이지는 제거하므로 한도(MAX_TOPICS)는 동시에 구독 중인 토픽 수에만 적용된다.
+ */
+@Component
+@Slf4j
+public class StompSessionMetrics {
+
+    private static final String OTHER_TOPIC = "other";
+    private static final int MAX_TOPICS = 64;
+    private static final Pattern KNOWN_TOPIC = Pattern.compile(
+            "/topic/(tournament|game-result|refresh|tournaments/\\d{1,18})");
+
+    private final MeterRegistry meterRegistry;
+
+    // 세션 ID -> (구독 ID -> 토픽 태그)
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    // 토픽 태그 -> 구독 수와 게이지 (구독이 0이 되면 제거)
+    private final Map<String, TopicGauge> subscriptions = new ConcurrentHashMap<>();
+
+    public StompSessionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("websocket.stomp.sessions", sessions, Map::size)
+                .description("연결된 STOMP 세션 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (sessionId != null) {
+            sessions.putIfAbsent(sessionId, new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String subscriptionId = accessor.getSubscriptionId();
+        if (accessor.getSessionId() == null || subscriptionId == null) {
+            return;
+        }
+        String topic = topicOf(accessor.getDestination());
+        // 연결이 먼저 끊긴 세션의 늦은 SUBSCRIBE는 무시
+        sessions.computeIfPresent(accessor.getSessionId(), (sessionId, subscribed) -> {
+            String previous = subscribed.put(subscriptionId, topic);
+            if (previous != null) {
+                decrement(previous);
+            }
+            increment(topic);
+            return subscribed;
+        });
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        sessions.computeIfPresent(accessor.getSessionId(), (sessionId, subscribed) -> {
+            String topic = subscribed.remove(accessor.getSubscriptionId());
+            if (topic != null) {
+                decrement(topic);
+            }
+            return subscribed;
+        });
+    }
+
+    /**
+     * 같은 세션에 대해 두 번 올 수 있으므로 처음 한 번만 반영한다.
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscribed = sessions.remove(event.getSessionId());
+        if (subscribed != null) {
+            subscribed.values().forEach(this::decrement);
+        }
+    }
+
+    private String topicOf(String destination) {
+        if (destination == null || !KNOWN_TOPIC.matcher(destination).matches()) {
+            return OTHER_TOPIC;
+        }
+        if (!subscriptions.containsKey(destination) && subscriptions.size() >= MAX_TOPICS) {
+            return OTHER_TOPIC;
+        }
+        return destination;
+    }
+
+    private void increment(String topic) {
+        subscriptions.compute(topic, (key, gauge) -> {
+            if (gauge == null) {
+                gauge = new TopicGauge(key);
+                log.debug("Tracking STOMP subscriptions for {}", key);
+            }
+            gauge.count.incrementAndGet();
+            return gauge;
+        });
+    }
+
+    private void decrement(String topic) {
+        subscriptions.computeIfPresent(topic, (key, gauge) -> {
+            if (gauge.count.decrementAndGet() > 0) {
+                return gauge;
+            }
+            meterRegistry.remove(gauge.gauge);
+            return null;
+        });
+    }
+
+    private class TopicGauge {
+        private final AtomicInteger count = new AtomicInteger();
+        private final Gauge gauge;
+
+        private TopicGauge(String topic) {
+            this.gauge = Gauge.builder("websocket.stomp.subscriptions", count, AtomicInteger::get)
+                    .description("토픽별 STOMP 구독 수")
+                    .tag("topic", topic)
+                    .register(meterRegistry);
+        }
+    }
+}
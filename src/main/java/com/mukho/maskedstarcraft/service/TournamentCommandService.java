@@ -0,0 +1,180 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.mukho.maskedstarcraft.dto.request.GameResultRequest;
+import com.mukho.maskedstarcraft.dto.request.TournamentStartRequest;
+import com.mukho.maskedstarcraft.dto.response.TournamentResponse;
+import com.mukho.maskedstarcraft.exception.BusinessException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대회를 변경하는 관리자 명령(시작, 경기 결과)의 진입점.
+ * 명령은 대회별 레인(트랜잭션 바깥의 공정(fair) 락)에서 도착 순서대로 하나씩 실행되므로 앞 명령의 커밋이 끝난 뒤에 다음 명령이 상태를 읽는다.
+ * 서로 다른 대회의 명령은 대부분 다른 레인을 쓰므로 동시에 진행된다. 대회 시작은 참가자 배정이 겹치지 않도록 별도 레인에서 직렬화한다.
+ * Idempotency-Key로 완료된 명령은 다시 실행하지 않고 저장된 응답을 돌려준다 (DB 쓰기, 브로드캐스트 없음).
+ * 명령 시간(tournament.command)은 레인 대기와 커밋까지 포함해 측정한다.
+ */
+@Service
+@Slf4j
+public class TournamentCommandService {
+
+    private final TournamentService tournamentService;
+    private final MeterRegistry meterRegistry;
+
+    // 대회 ID로 나눈 명령 레인 (락 스트라이핑)
+    private static final int LANES = 32;
+
+    private final ReentrantLock startLane = new ReentrantLock(true);
+    private final ReentrantLock[] tournamentLanes = new ReentrantLock[LANES];
+
+    // 완료된 명령 (명령 종류 + 키 -> 결과), 오래된 키부터 제거
+    private final Map<String, CompletedCommand> completedCommands;
+
+    public TournamentCommandService(TournamentService tournamentService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${tournament.idempotency.max-keys:1000}") int maxKeys) {
+        this.tournamentService = tournamentService;
+        this.meterRegistry = meterRegistry;
+        for (int i = 0; i < LANES; i++) {
+            tournamentLanes[i] = new ReentrantLock(true);
+        }
+        this.completedCommands = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletedCommand> eldest) {
+                return size() > maxKeys;
+            }
+        };
+    }
+
+    public TournamentResponse startTournament(TournamentStartRequest request, String idempotencyKey) {
+        long startedAt = System.nanoTime();
+        String fingerprint = request.getName() + "|" + request.getSeed() + "|" + request.getPlayerIds();
+        return execute("start", startedAt, commandKey("start", idempotencyKey), fingerprint, startLane,
+                () -> tournamentService.startTournament(request));
+    }
+
+    /**
+     * tournamentId가 null이면 승자가 현재 경기 중인 대회로 보낸다.
+     */
+    public TournamentResponse recordGameResult(Long tournamentId, GameResultRequest request, String idempotencyKey) {
+        long startedAt = System.nanoTime();
+        String key = commandKey("result", idempotencyKey);
+        String fingerprint = tournamentId + "|" + request.getWinnerId() + "@" + request.getRound();
+
+        // 이미 끝난 명령이면 대상 대회를 찾지 않고 바로 응답 (그 사이 대회가 종료됐어도 같은 응답)
+        TournamentResponse replayed = replay(key, fingerprint);
+        if (replayed != null) {
+            recordCommand("result", "replayed", startedAt);
+            return replayed;
+        }
+
+        Long targetId;
+        try {
+            targetId = tournamentId != null ? tournamentId
+                    : tournamentService.findTournamentOfParticipant(request.getWinnerId());
+        } catch (BusinessException e) {
+            // 대상 대회를 찾는 사이 같은 키의 명령이 끝났을 수 있음
+            replayed = replay(key, fingerprint);
+            if (replayed != null) {
+                recordCommand("result", "replayed", startedAt);
+                return replayed;
+            }
+            recordCommand("result", "rejected", startedAt);
+            throw e;
+        }
+
+        return execute("result", startedAt, key, fingerprint, lane(targetId),
+                () -> tournamentService.recordGameResult(targetId, request));
+    }
+
+    private ReentrantLock lane(Long tournamentId) {
+        return tournamentLanes[Math.floorMod(tournamentId.hashCode(), LANES)];
+    }
+
+    private String commandKey(String command, String idempotencyKey) {
+        return idempotencyKey == null || idempotencyKey.isBlank() ? null : command + ":" + idempotencyKey.trim();
+    }
+
+    private TournamentResponse execute(String command, long startedAt, String key, String fingerprint,
+                                       ReentrantLock lane, Supplier<TournamentResponse> action) {
+        String outcome = "error";
+        long waitStartedAt = System.nanoTime();
+        lane.lock();
+        try {
+            Timer.builder("tournament.command.lane.wait")
+                    .description("명령이 대회 레인 락을 기다린 시간")
+                    .tag("command", command)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - waitStartedAt, TimeUnit.NANOSECONDS);
+
+            TournamentResponse replayed = replay(key, fingerprint);
+            if (replayed != null) {
+                outcome = "replayed";
+                return replayed;
+            }
+
+            // 서비스 트랜잭션이 커밋된 뒤에 반환되므로 실패한 명령은 저장되지 않는다
+            TournamentResponse response = action.get();
+            if (key != null) {
+                synchronized (completedCommands) {
+                    completedCommands.put(key, new CompletedCommand(fingerprint, response));
+                }
+            }
+            outcome = "success";
+            return response;
+        } catch (BusinessException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            lane.unlock();
+            recordCommand(command, outcome, startedAt);
+        }
+    }
+
+    private void recordCommand(String command, String outcome, long startedAt) {
+        Timer.builder("tournament.command")
+                .description("관리자 명령 처리 시간 (레인 대기, 커밋 포함)")
+                .tags("command", command, "outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private TournamentResponse replay(String key, String fingerprint) {
+        if (key == null) {
+            return null;
+        }
+        CompletedCommand completed;
+        synchronized (completedCommands) {
+            completed = completedCommands.get(key);
+        }
+        if (completed == null) {
+            return null;
+        }
+        // 같은 키로 다른 내용을 보내면 거부
+        if (!completed.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException();
+        }
+        log.info("Replaying command for idempotency key {}", key);
+        return completed.response();
+    }
+
+    private record CompletedCommand(String fingerprint, TournamentResponse response) {
+    }
+
+    public static class IdempotencyKeyReusedException extends BusinessException {
+        public IdempotencyKeyReusedException() {
+            super("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다");
+        }
+    }
+}
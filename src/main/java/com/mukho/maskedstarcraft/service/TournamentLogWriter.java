@@ -0,0 +1,165 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mukho.maskedstarcraft.entity.GameLog;
+import com.mukho.maskedstarcraft.entity.TournamentSummary;
+import com.mukho.maskedstarcraft.entity.User;
+import com.mukho.maskedstarcraft.repository.GameLogRepository;
+import com.mukho.maskedstarcraft.repository.TournamentSummaryRepository;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대회 로그 텍스트 파일을 Writer로 바로 써 내려간다.
+ * 머리말은 대회 요약(tournament_summary)으로 만들고, 경기 행은 스트림 쿼리에서 읽는 즉시 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TournamentLogWriter {
+    
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
+    private final TournamentSummaryRepository tournamentSummaryRepository;
+    private final GameLogRepository gameLogRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    
+    /**
+     * 완료된 대회의 로그를 기록한다. 응답 스트리밍 스레드에서 호출되므로 자체 읽기 전용 트랜잭션을 연다.
+     */
+    public void write(Long tournamentId, Writer out) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try {
+                writeReport(tournamentId, out);
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+    
+    private void writeReport(Long tournamentId, Writer out) throws IOException {
+        TournamentSummary summary = tournamentSummaryRepository.findWithWinnerByTournamentId(tournamentId)
+                .orElseThrow(LogService.TournamentNotFoundException::new);
+        
+        out.write("=".repeat(80) + "\n");
+        out.write("복면스타왕 대회 로그\n");
+        out.write("=".repeat(80) + "\n\n");
+        
+        // 대회 정보
+        out.write("📋 대회 정보\n");
+        out.write("-".repeat(40) + "\n");
+        out.write(String.format("대회 ID: %d\n", summary.getTournamentId()));
+        out.write(String.format("시작 시간: %s\n", formatDateTime(summary.getStartedAt())));
+        out.write(String.format("종료 시간: %s\n", formatDateTime(summary.getFinishedAt())));
+        out.write(String.format("진행 시간: %s\n", formatDuration(summary.getStartedAt(), summary.getFinishedAt())));
+        out.write("상태: FINISHED\n\n");
+        
+        // 결과 정보
+        out.write("🏆 대회 결과\n");
+        out.write("-".repeat(40) + "\n");
+        if (summary.getWinner() != null) {
+            out.write(String.format("최종 우승자: %s (%d연승)\n",
+                    formatPlayer(summary.getWinner()), summary.getWinnerStreak()));
+        }
+        
+        List<Long> maxStreakPlayerIds = summary.getMaxStreakPlayerIdList();
+        if (!maxStreakPlayerIds.isEmpty()) {
+            java.util.Map<Long, User> players = userRepository.findAllById(maxStreakPlayerIds).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+            
+            out.write(String.format("최다 연승자(%d연승):\n", summary.getMaxStreak()));
+            for (Long playerId : maxStreakPlayerIds) {
+                out.write(String.format("  - %s\n", formatPlayer(players.get(playerId))));
+            }
+        }
+        out.write("\n");
+        
+        // 통계 정보
+        out.write("📊 대회 통계\n");
+        out.write("-".repeat(40) + "\n");
+        out.write(String.format("총 경기 수: %d경기\n", summary.getTotalGames()));
+        out.write(String.format("참가자 수: %d명\n", summary.getTotalParticipants()));
+        out.write(String.format("최대 연승: %d연승\n\n", summary.getMaxStreak()));
+        
+        // 경기 상세
+        out.write("🎮 경기 상세\n");
+        out.write("-".repeat(80) + "\n");
+        out.write(String.format("%-5s %-15s %-15s %-15s %-15s %s\n",
+                "라운드", "플레이어1", "플레이어2", "승자", "맵", "연승"));
+        out.write("-".repeat(80) + "\n");
+        
+        try (Stream<GameLog> games = gameLogRepository.streamDetailedByTournamentIdOrderByRoundAsc(tournamentId)) {
+            for (GameLog game : (Iterable<GameLog>) games::iterator) {
+                if (game.getWinner() != null) {
+                    out.write(formatGameRow(game));
+                }
+                // 기록한 경기는 영속성 컨텍스트에서 제거해 메모리를 일정하게 유지
+                entityManager.detach(game);
+            }
+        }
+        
+        out.write("\n");
+        out.write("=".repeat(80) + "\n");
+        out.write(String.format("로그 생성 시간: %s\n", LocalDateTime.now().format(DATE_TIME_FORMAT)));
+        out.write("=".repeat(80));
+    }
+    
+    /**
+     * 경기 상세 한 줄 (결과가 기록된 경기)
+     */
+    static String formatGameRow(GameLog game) {
+        return String.format("%-5d %-15s %-15s %-15s %-15s %d연승\n",
+                game.getRound(),
+                formatPlayer(game.getPlayer1()),
+                formatPlayer(game.getPlayer2()),
+                formatPlayer(game.getWinner()),
+                game.getMap().getName(),
+                game.getWinnerStreak() != null ? game.getWinnerStreak() : 0);
+    }
+    
+    private String formatDateTime(LocalDateTime dateTime) {
+        if (dateTime == null) return "N/A";
+        return dateTime.format(DATE_TIME_FORMAT);
+    }
+    
+    private String formatDuration(LocalDateTime start, LocalDateTime end) {
+        if (start == null) return "N/A";
+        
+        Duration duration = Duration.between(start, end != null ? end : start);
+        long hours = duration.toHours();
+        long minutes = duration.toMinutes() % 60;
+        
+        if (hours > 0) {
+            return String.format("%d시간 %d분", hours, minutes);
+        } else {
+            return String.format("%d분", minutes);
+        }
+    }
+    
+    private static String formatPlayer(User player) {
+        if (player == null) return "N/A";
+        if (player.getName() != null && !player.getName().isEmpty()) {
+            return String.format("%s(%s)", player.getNickname(), player.getName());
+        }
+        return player.getNickname();
+    }
+}
@@ -1,32 +1,37 @@
 package com.mukho.maskedstarcraft.service;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mukho.maskedstarcraft.dto.request.GameResultRequest;
+import com.mukho.maskedstarcraft.dto.request.TournamentStartRequest;
+import com.mukho.maskedstarcraft.dto.response.ApiResponse;
 import com.mukho.maskedstarcraft.dto.response.MapResponse;
 import com.mukho.maskedstarcraft.dto.response.PlayerResponse;
+import com.mukho.maskedstarcraft.dto.response.TournamentEvent;
+import com.mukho.maskedstarcraft.dto.response.TournamentOverviewResponse;
 import com.mukho.maskedstarcraft.dto.response.TournamentResponse;
-import com.mukho.maskedstarcraft.entity.GameLog;
+import com.mukho.maskedstarcraft.dto.response.UpcomingChallengersResponse;
 import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.entity.TournamentSummary;
 import com.mukho.maskedstarcraft.entity.User;
 import com.mukho.maskedstarcraft.exception.BusinessException;
-import com.mukho.maskedstarcraft.repository.GameLogRepository;
-import com.mukho.maskedstarcraft.repository.MapRepository;
 import com.mukho.maskedstarcraft.repository.TournamentRepository;
 import com.mukho.maskedstarcraft.repository.UserRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,390 +41,327 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TournamentService {
     
+    private static final int DEFAULT_UPCOMING_SIZE = 5;
+    private static final int MAX_UPCOMING_SIZE = 50;
+    private static final int MAX_CACHED_SNAPSHOTS = 64;
+    
     private final TournamentRepository tournamentRepository;
     private final UserRepository userRepository;
-    private final MapRepository mapRepository;
-    private final GameLogRepository gameLogRepository;
+    private final MapService mapService;
     private final WebSocketService webSocketService;
+    private final TournamentStateEngine tournamentStateEngine;
+    private final PlayerStatsService playerStatsService;
+    private final MapStatsService mapStatsService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
     
-    public TournamentResponse startTournament() {
-        // 진행 중인 토너먼트 체크
-        Optional<Tournament> currentTournament = tournamentRepository.findCurrentTournament();
-        if (currentTournament.isPresent() && 
-            currentTournament.get().getStatus() == Tournament.Status.IN_PROGRESS) {
-            throw new TournamentAlreadyInProgressException();
-        }
-        
-        // 참가자 수 체크 (최소 2명)
-        List<User> players = userRepository.findActivePlayersOrderByCreatedAt();
+    // 대회 ID -> 직렬화된 응답 (리비전이 같으면 재사용)
+    private final ConcurrentHashMap<Long, ResponseSnapshot> snapshots = new ConcurrentHashMap<>();
+    
+    /**
+     * playerIds를 생략하면 전체 참가자로 시작한다 (진행 중인 대회가 없을 때만).
+     * playerIds를 지정하면 다른 대회와 동시에 진행할 수 있으며, 이미 다른 대회에서 대기 중인 플레이어는 넣을 수 없다.
+     * seed가 null이면 새 시드를 만든다. 같은 참가자 목록과 시드로 시작하면 도전자 순서가 재현된다.
+     */
+    public TournamentResponse startTournament(TournamentStartRequest request) {
+        // 참가자 선택 및 수 체크 (최소 2명)
+        List<User> players = selectPlayers(request.getPlayerIds());
         if (players.size() < 2) {
             throw new InsufficientPlayersException();
         }
         
         // 맵 개수 체크 (최소 1개)
-        List<com.mukho.maskedstarcraft.entity.Map> maps = mapRepository.findAllActiveMaps();
-        if (maps.isEmpty()) {
+        if (mapService.getCatalog().isEmpty()) {
             throw new InsufficientMapsException();
         }
         
+        // 도전자 순서를 시작 시 한 번 정해 대회와 함께 저장
+        long tournamentSeed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+        List<User> challengerOrder = TournamentState.seededOrder(players, tournamentSeed);
+        
         // 새 토너먼트 생성
         Tournament tournament = Tournament.builder()
+                .name(request.getName())
                 .status(Tournament.Status.IN_PROGRESS)
+                .seed(tournamentSeed)
+                .challengerOrder(TournamentSummary.joinIds(challengerOrder.stream()
+                        .map(User::getId)
+                        .collect(Collectors.toList())))
                 .build();
         
         Tournament savedTournament = tournamentRepository.save(tournament);
+        Long tournamentId = savedTournament.getId();
         
-        // 첫 번째 경기 생성
-        createFirstGame(savedTournament, players, maps);
+        // 메모리 상태 초기화 및 첫 번째 경기 생성
+        tournamentStateEngine.start(savedTournament, challengerOrder);
         
-        log.info("Tournament started with {} players", players.size());
+        log.info("Tournament {} started with {} players (seed {})", tournamentId, players.size(), tournamentSeed);
         
         // WebSocket으로 알림
+        webSocketService.broadcastTournamentEvent(tournamentStateEngine.read(tournamentId,
+                state -> buildEvent(TournamentEvent.Type.TOURNAMENT_STARTED, state, null)));
         webSocketService.broadcastTournamentStart();
         webSocketService.broadcastRefreshRequired();
         
-        return getCurrentTournament();
+        return getTournament(tournamentId);
     }
     
-    @Transactional(readOnly = true)
-    public TournamentResponse getCurrentTournament() {
-        Optional<Tournament> tournamentOpt = tournamentRepository.findCurrentTournament();
-        
-        if (tournamentOpt.isEmpty()) {
-            // 진행 중인 대회가 없으면 마지막 완료된 대회 결과 반환
-            Optional<Tournament> lastFinished = tournamentRepository.findLatestFinishedTournament();
-            if (lastFinished.isPresent()) {
-                return buildFinishedTournamentResponse(lastFinished.get());
+    private List<User> selectPlayers(List<Long> playerIds) {
+        if (playerIds == null || playerIds.isEmpty()) {
+            // 기존 방식: 진행 중인 대회가 없을 때 전체 참가자로 시작
+            if (!tournamentStateEngine.readActive(TournamentState::getTournamentId).isEmpty()) {
+                throw new TournamentAlreadyInProgressException();
             }
-            return null; // 대회 없음
+            return userRepository.findActivePlayersOrderByCreatedAt();
         }
         
-        Tournament tournament = tournamentOpt.get();
+        Set<Long> requestedIds = new HashSet<>(playerIds);
+        List<User> players = userRepository.findActivePlayersByIdIn(requestedIds);
+        if (players.size() != requestedIds.size()) {
+            throw new InvalidPlayerSelectionException("참가할 수 없는 플레이어가 포함되어 있습니다");
+        }
         
-        if (tournament.getStatus() == Tournament.Status.IN_PROGRESS) {
-            return buildInProgressTournamentResponse(tournament);
-        } else {
-            return buildFinishedTournamentResponse(tournament);
+        Set<Long> engagedPlayerIds = tournamentStateEngine.getEngagedPlayerIds();
+        for (User player : players) {
+            if (engagedPlayerIds.contains(player.getId())) {
+                throw new InvalidPlayerSelectionException("다른 대회에 참가 중인 플레이어입니다: " + player.getNickname());
+            }
         }
+        return players;
     }
     
-    public TournamentResponse recordGameResult(GameResultRequest request) {
-        Tournament tournament = tournamentRepository.findCurrentTournament()
-                .orElseThrow(() -> new TournamentNotFoundException());
-        
-        if (tournament.getStatus() != Tournament.Status.IN_PROGRESS) {
-            throw new InvalidGameResultException("진행 중인 대회가 아닙니다");
-        }
-        
-        // 현재 진행 중인 경기 찾기
-        List<GameLog> gameLogs = gameLogRepository.findByTournamentOrderByRoundDesc(tournament);
-        if (gameLogs.isEmpty()) {
-            throw new InvalidGameResultException("진행 중인 경기가 없습니다");
-        }
-        
-        GameLog currentGame = gameLogs.get(0);
-        
-        // 승자 검증
-        User winner = userRepository.findById(request.getWinnerId())
-                .orElseThrow(() -> new InvalidGameResultException("존재하지 않는 사용자입니다"));
-        
-        if (!winner.getId().equals(currentGame.getPlayer1().getId()) && 
-            !winner.getId().equals(currentGame.getPlayer2().getId())) {
-            throw new InvalidGameResultException("경기 참가자가 아닙니다");
-        }
-        
-        // 게임 결과 업데이트
-        currentGame.setWinner(winner);
-        gameLogRepository.save(currentGame);
-        
-        log.info("Game result recorded: {} wins", winner.getNickname());
-        
-        // 다음 경기 또는 토너먼트 종료 처리
-        processNextGame(tournament, winner);
-        
-        // WebSocket으로 알림
-        webSocketService.broadcastTournamentUpdate();
-        webSocketService.broadcastRefreshRequired();
-        
-        return getCurrentTournament();
+    @Transactional(readOnly = true)
+    public TournamentResponse getCurrentTournament() {
+        return meterRegistry.timer("tournament.read")
+                .record(() -> tournamentStateEngine.read(this::buildTournamentResponse));
     }
     
-    private void createFirstGame(Tournament tournament, List<User> players, List<com.mukho.maskedstarcraft.entity.Map> maps) {
-        // 플레이어 리스트를 셔플하여 무작위 순서로 만듦
-        List<User> shuffledPlayers = new ArrayList<>(players);
-        Collections.shuffle(shuffledPlayers);
-        
-        // 첫 두 명의 플레이어 선택 (무작위)
-        User player1 = shuffledPlayers.get(0);
-        User player2 = shuffledPlayers.get(1);
-        
-        // 플레이어 순서도 무작위로 결정
-        if (new Random().nextBoolean()) {
-            User temp = player1;
-            player1 = player2;
-            player2 = temp;
-        }
-        
-        // 랜덤 맵 선택
-        com.mukho.maskedstarcraft.entity.Map selectedMap = maps.get(new Random().nextInt(maps.size()));
-        
-        GameLog gameLog = GameLog.builder()
-                .tournament(tournament)
-                .map(selectedMap)
-                .player1(player1)
-                .player2(player2)
-                .round(1)
-                .build();
-        
-        gameLogRepository.save(gameLog);
-        log.info("First game created: {} vs {} on {}", player1.getNickname(), player2.getNickname(), selectedMap.getName());
+    @Transactional(readOnly = true)
+    public TournamentResponse getTournament(Long tournamentId) {
+        return tournamentStateEngine.read(tournamentId, this::buildTournamentResponse);
     }
     
-    private void processNextGame(Tournament tournament, User winner) {
-        List<User> players = userRepository.findActivePlayersOrderByCreatedAt();
-        List<com.mukho.maskedstarcraft.entity.Map> maps = mapRepository.findAllActiveMaps();
-        List<GameLog> gameLogs = gameLogRepository.findByTournamentOrderByRoundAsc(tournament);
-        
-        // 다음 도전자 찾기 (무작위 선택)
-        Optional<User> nextChallenger = findNextChallenger(winner, players, gameLogs);
+    /**
+     * 진행 중인 대회 목록 (시작 순서)
+     */
+    @Transactional(readOnly = true)
+    public List<TournamentOverviewResponse> getActiveTournaments() {
+        return tournamentStateEngine.readActive(state -> TournamentOverviewResponse.builder()
+                .id(state.getTournamentId())
+                .name(state.getName())
+                .status(state.getStatus().name())
+                .currentRound(state.getCurrentMatch() != null ? state.getCurrentMatch().getRound() : null)
+                .remainingChallengers(state.getRemainingChallengers())
+                .startedAt(state.getCreatedAt())
+                .build());
+    }
+    
+    /**
+     * 진행 중인 대회의 다음 도전자들을 순서대로 조회 (메모리 상태에서 앞의 limit명만 읽음).
+     * tournamentId가 null이면 현재 대회.
+     */
+    @Transactional(readOnly = true)
+    public UpcomingChallengersResponse getUpcomingChallengers(Long tournamentId, Integer limit) {
+        int size = limit == null || limit <= 0 ? DEFAULT_UPCOMING_SIZE : Math.min(limit, MAX_UPCOMING_SIZE);
         
-        if (nextChallenger.isPresent()) {
-            // 다음 경기 생성
-            int nextRound = gameLogs.size() + 1;
-            com.mukho.maskedstarcraft.entity.Map selectedMap = maps.get(new Random().nextInt(maps.size()));
-            
-            // 승자와 도전자의 순서도 무작위로 결정
-            User player1 = winner;
-            User player2 = nextChallenger.get();
-            
-            if (new Random().nextBoolean()) {
-                player1 = nextChallenger.get();
-                player2 = winner;
+        Function<TournamentState, UpcomingChallengersResponse> reader = state -> {
+            if (state == null || !state.isInProgress()) {
+                throw new TournamentNotFoundException();
             }
-            
-            GameLog nextGame = GameLog.builder()
-                    .tournament(tournament)
-                    .map(selectedMap)
-                    .player1(player1)
-                    .player2(player2)
-                    .round(nextRound)
+            return UpcomingChallengersResponse.builder()
+                    .tournamentId(state.getTournamentId())
+                    .seed(state.getSeed())
+                    .remaining(state.getRemainingChallengers())
+                    .challengers(state.getUpcomingChallengers(size).stream()
+                            .map(this::createPlayerResponse)
+                            .collect(Collectors.toList()))
                     .build();
-            
-            gameLogRepository.save(nextGame);
-            log.info("Next game created: {} vs {} on {} (Round {})", 
-                    player1.getNickname(), player2.getNickname(), selectedMap.getName(), nextRound);
-        } else {
-            // 대회 종료
-            finishTournament(tournament, winner, gameLogs);
-        }
+        };
+        return tournamentId == null ? tournamentStateEngine.read(reader)
+                : tournamentStateEngine.read(tournamentId, reader);
     }
     
-    private void finishTournament(Tournament tournament, User finalWinner, List<GameLog> gameLogs) {
-        // 최다 연승자 계산
-        MaxStreakResult maxStreakResult = calculateMaxStreakPlayers(gameLogs);
-        
-        tournament.setStatus(Tournament.Status.FINISHED);
-        tournament.setWinnerUser(finalWinner);
-        // 첫 번째 최다연승자만 저장 (기존 DB 구조 유지)
-        tournament.setMaxStreakUser(maxStreakResult.getPlayers().isEmpty() ? null : maxStreakResult.getPlayers().get(0));
+    /**
+     * 대회 상태 리비전별로 직렬화해 둔 응답. 리비전이 같으면 다시 만들지 않는다.
+     * tournamentId가 null이면 현재 대회.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ResponseSnapshot getTournamentSnapshot(Long tournamentId) {
+        Long id = tournamentId != null ? tournamentId : tournamentStateEngine.getCurrentTournamentId();
+        if (id == null) {
+            meterRegistry.counter("tournament.snapshot.requests", "cache", "idle").increment();
+            return ResponseSnapshot.of(0, serialize(ApiResponse.success("진행 중인 대회가 없습니다.", null)));
+        }
         
-        tournamentRepository.save(tournament);
+        ResponseSnapshot snapshot = snapshots.get(id);
+        if (snapshot != null && snapshot.getVersion() == tournamentStateEngine.getRevision(id)) {
+            meterRegistry.counter("tournament.snapshot.requests", "cache", "hit").increment();
+            return snapshot;
+        }
         
-        log.info("Tournament finished. Winner: {}, Max streak players: {}", 
-                finalWinner.getNickname(), 
-                maxStreakResult.getPlayers().stream()
-                        .map(User::getNickname)
-                        .collect(Collectors.joining(", ")));
-                        
-        // WebSocket으로 대회 종료 알림
-        webSocketService.broadcastTournamentFinish(finalWinner.getNickname());
-        webSocketService.broadcastRefreshRequired();
+        meterRegistry.counter("tournament.snapshot.requests", "cache", "miss").increment();
+        snapshot = meterRegistry.timer("tournament.snapshot.build").record(() -> tournamentStateEngine.read(id,
+                state -> ResponseSnapshot.of(tournamentStateEngine.getRevision(id),
+                        serialize(ApiResponse.success(buildTournamentResponse(state))))));
+        if (snapshots.size() >= MAX_CACHED_SNAPSHOTS) {
+            snapshots.clear();
+        }
+        snapshots.put(id, snapshot);
+        return snapshot;
     }
     
-    private int calculateWinStreak(User player, List<GameLog> gameLogs) {
-        int streak = 0;
-        for (int i = gameLogs.size() - 1; i >= 0; i--) {
-            GameLog game = gameLogs.get(i);
-            if (game.getWinner() != null && game.getWinner().getId().equals(player.getId())) {
-                streak++;
-            } else {
-                break;
-            }
-        }
-        return streak;
+    /**
+     * 경기 중인 플레이어가 속한 진행 중 대회 (대회 ID 없이 들어온 결과 입력용)
+     */
+    @Transactional(readOnly = true)
+    public Long findTournamentOfParticipant(Long playerId) {
+        return tournamentStateEngine.findTournamentOfParticipant(playerId).orElseThrow(() ->
+                tournamentStateEngine.readActive(TournamentState::getTournamentId).isEmpty()
+                        ? new TournamentNotFoundException()
+                        : new InvalidGameResultException("경기 참가자가 아닙니다"));
     }
     
-    private Optional<User> findNextChallenger(User currentWinner, List<User> players, List<GameLog> gameLogs) {
-        Set<Long> playedPlayerIds = gameLogs.stream()
-                .flatMap(game -> Arrays.stream(new Long[]{game.getPlayer1().getId(), game.getPlayer2().getId()}))
-                .collect(Collectors.toSet());
+    public TournamentResponse recordGameResult(Long tournamentId, GameResultRequest request) {
+        // 결과 반영과 다음 경기 생성/대회 종료는 상태 엔진이 처리 (조회 쿼리 없음)
+        TournamentState.CompletedGame game = tournamentStateEngine.recordResult(tournamentId,
+                request.getWinnerId(), request.getRound());
+        
+        log.info("Game result recorded in tournament {}: {} wins", tournamentId, game.getWinner().getNickname());
+        
+        TournamentEvent event = tournamentStateEngine.read(tournamentId, state -> buildEvent(
+                state.isInProgress() ? TournamentEvent.Type.GAME_FINISHED : TournamentEvent.Type.TOURNAMENT_FINISHED,
+                state, game));
+        
+        // 통산 기록, 맵별 종족 전적 증분 갱신
+        playerStatsService.recordGame(game);
+        mapStatsService.recordGame(game);
+        if (event.getType() == TournamentEvent.Type.TOURNAMENT_FINISHED) {
+            playerStatsService.recordTitle(game.getWinner());
+        }
         
-        // 아직 경기하지 않은 플레이어들을 모두 찾기
-        List<User> availablePlayers = players.stream()
-                .filter(player -> !player.getId().equals(currentWinner.getId()))
-                .filter(player -> !playedPlayerIds.contains(player.getId()))
-                .collect(Collectors.toList());
+        webSocketService.broadcastTournamentEvent(event);
         
-        if (availablePlayers.isEmpty()) {
-            return Optional.empty();
+        if (event.getType() == TournamentEvent.Type.TOURNAMENT_FINISHED) {
+            // WebSocket으로 대회 종료 알림
+            webSocketService.broadcastTournamentFinish(event.getResult().getWinner().getNickname());
+            webSocketService.broadcastRefreshRequired();
         }
         
-        // 무작위로 한 명 선택
-        Collections.shuffle(availablePlayers);
-        return Optional.of(availablePlayers.get(0));
+        // WebSocket으로 알림
+        webSocketService.broadcastTournamentUpdate();
+        webSocketService.broadcastRefreshRequired();
+        
+        return getTournament(tournamentId);
     }
     
-    private MaxStreakResult calculateMaxStreakPlayers(List<GameLog> gameLogs) {
-        java.util.Map<Long, Integer> maxStreaks = new HashMap<>();
-        java.util.Map<Long, Integer> currentStreaks = new HashMap<>();
-        
-        for (GameLog game : gameLogs) {
-            if (game.getWinner() != null) {
-                Long winnerId = game.getWinner().getId();
-                currentStreaks.put(winnerId, currentStreaks.getOrDefault(winnerId, 0) + 1);
-                maxStreaks.put(winnerId, Math.max(maxStreaks.getOrDefault(winnerId, 0), 
-                                                 currentStreaks.get(winnerId)));
-                
-                // 패배자의 연승 초기화
-                Long loserId = game.getPlayer1().getId().equals(winnerId) ? 
-                              game.getPlayer2().getId() : game.getPlayer1().getId();
-                currentStreaks.put(loserId, 0);
-            }
+    private TournamentResponse buildTournamentResponse(TournamentState state) {
+        if (state == null) {
+            return null; // 대회 없음
         }
         
-        if (maxStreaks.isEmpty()) {
-            return new MaxStreakResult(new ArrayList<>(), 0);
+        if (state.isInProgress()) {
+            return buildInProgressTournamentResponse(state);
+        } else {
+            return buildFinishedTournamentResponse(state);
         }
-        
-        int maxStreak = maxStreaks.values().stream()
-                .mapToInt(Integer::intValue)
-                .max()
-                .orElse(0);
-        
-        List<User> maxStreakPlayers = maxStreaks.entrySet().stream()
-                .filter(entry -> entry.getValue() == maxStreak)
-                .map(entry -> userRepository.findById(entry.getKey()).orElse(null))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-        
-        return new MaxStreakResult(maxStreakPlayers, maxStreak);
     }
     
-    private static class MaxStreakResult {
-        private final List<User> players;
-        private final int maxStreak;
-        
-        public MaxStreakResult(List<User> players, int maxStreak) {
-            this.players = players;
-            this.maxStreak = maxStreak;
-        }
-        
-        public List<User> getPlayers() { return players; }
-        public int getMaxStreak() { return maxStreak; }
+    private TournamentEvent buildEvent(TournamentEvent.Type type, TournamentState state,
+                                       TournamentState.CompletedGame finishedGame) {
+        return TournamentEvent.builder()
+                .type(type)
+                .sequence(tournamentStateEngine.getSequence(state.getTournamentId()))
+                .tournamentId(state.getTournamentId())
+                .status(state.getStatus().name())
+                .currentGame(createCurrentGameResponse(state.getCurrentMatch()))
+                .finishedGames(finishedGame == null ? List.of() : List.of(createGameLogResponse(finishedGame)))
+                .result(state.isInProgress() ? null : createResultResponse(state))
+                .build();
     }
     
-    private TournamentResponse buildInProgressTournamentResponse(Tournament tournament) {
-        List<GameLog> gameLogs = gameLogRepository.findByTournamentOrderByRoundDesc(tournament);
-        
-        if (gameLogs.isEmpty()) {
-            return TournamentResponse.builder()
-                    .id(tournament.getId())
-                    .status(tournament.getStatus().name())
-                    .build();
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize tournament response", e);
         }
-        
-        // 현재 경기 (승자가 없는 마지막 경기)
-        GameLog currentGame = gameLogs.stream()
-                .filter(game -> game.getWinner() == null)
-                .findFirst()
-                .orElse(null);
-        
-        // 이전 경기들 (승자가 있는 경기들)
-        List<GameLog> previousGames = gameLogs.stream()
-                .filter(game -> game.getWinner() != null)
-                .collect(Collectors.toList());
-        
-        TournamentResponse.CurrentGameResponse currentGameResponse = null;
-        if (currentGame != null) {
-            currentGameResponse = TournamentResponse.CurrentGameResponse.builder()
-                    .player1(createPlayerResponse(currentGame.getPlayer1()))
-                    .player2(createPlayerResponse(currentGame.getPlayer2()))
-                    .map(MapResponse.from(currentGame.getMap()))
-                    .round(currentGame.getRound())
-                    .build();
-        }
-        
-        List<TournamentResponse.GameLogResponse> gameLogResponses = previousGames.stream()
-                .map(this::createGameLogResponse)
-                .collect(Collectors.toList());
-        
+    }
+    
+    private TournamentResponse buildInProgressTournamentResponse(TournamentState state) {
         return TournamentResponse.builder()
-                .id(tournament.getId())
-                .status(tournament.getStatus().name())
-                .currentGame(currentGameResponse)
-                .previousGames(gameLogResponses)
+                .id(state.getTournamentId())
+                .name(state.getName())
+                .status(state.getStatus().name())
+                .seed(state.getSeed())
+                .currentGame(createCurrentGameResponse(state.getCurrentMatch()))
+                .previousGames(createGameLogResponses(state))
                 .showPreviousGames(false) // 진행 중인 대회는 기본적으로 이전 게임 목록을 숨김
                 .build();
     }
     
-    private TournamentResponse buildFinishedTournamentResponse(Tournament tournament) {
-        List<GameLog> gameLogs = gameLogRepository.findByTournamentOrderByRoundDesc(tournament);
-        
-        List<TournamentResponse.GameLogResponse> gameLogResponses = gameLogs.stream()
-                .filter(game -> game.getWinner() != null)
-                .map(this::createGameLogResponse)
-                .collect(Collectors.toList());
-        
-        TournamentResponse.TournamentResultResponse result = null;
-        if (tournament.getWinnerUser() != null) {
-            // 최다연승자들과 연승수 계산
-            List<GameLog> gameLogsAsc = gameLogRepository.findByTournamentOrderByRoundAsc(tournament);
-            MaxStreakResult maxStreakResult = calculateMaxStreakPlayers(gameLogsAsc);
-            
-            // 우승자의 연승수 계산
-            int winnerStreak = calculateWinStreak(tournament.getWinnerUser(), gameLogsAsc);
-            
-            result = TournamentResponse.TournamentResultResponse.builder()
-                    .winner(createPlayerResponse(tournament.getWinnerUser()))
-                    .winnerStreak(winnerStreak)
-                    .maxStreakPlayers(maxStreakResult.getPlayers().stream()
-                            .map(this::createPlayerResponse)
-                            .collect(Collectors.toList()))
-                    .maxStreak(maxStreakResult.getMaxStreak())
-                    .build();
-        }
-        
+    private TournamentResponse buildFinishedTournamentResponse(TournamentState state) {
         return TournamentResponse.builder()
-                .id(tournament.getId())
-                .status(tournament.getStatus().name())
-                .previousGames(gameLogResponses)
-                .result(result)
+                .id(state.getTournamentId())
+                .name(state.getName())
+                .status(state.getStatus().name())
+                .seed(state.getSeed())
+                .previousGames(createGameLogResponses(state))
+                .result(createResultResponse(state))
                 .showPreviousGames(true) // 종료된 대회는 이전 게임 목록을 표시
                 .build();
     }
     
-    private TournamentResponse.GameLogResponse createGameLogResponse(GameLog gameLog) {
-        User loser = gameLog.getPlayer1().getId().equals(gameLog.getWinner().getId()) ? 
-                    gameLog.getPlayer2() : gameLog.getPlayer1();
-        
-        int streak = calculateWinStreakAtGame(gameLog);
-        
-        return TournamentResponse.GameLogResponse.builder()
-                .winner(createPlayerResponse(gameLog.getWinner()))
-                .loser(createPlayerResponse(loser))
-                .map(MapResponse.from(gameLog.getMap()))
-                .round(gameLog.getRound())
-                .streak(streak)
+    private TournamentResponse.CurrentGameResponse createCurrentGameResponse(TournamentState.Match currentGame) {
+        if (currentGame == null) {
+            return null;
+        }
+        return TournamentResponse.CurrentGameResponse.builder()
+                .player1(createPlayerResponse(currentGame.getPlayer1()))
+                .player2(createPlayerResponse(currentGame.getPlayer2()))
+                .map(MapResponse.from(currentGame.getMap()))
+                .round(currentGame.getRound())
                 .build();
     }
     
-    private int calculateWinStreakAtGame(GameLog gameLog) {
-        List<GameLog> previousGames = gameLogRepository.findByTournamentOrderByRoundAsc(gameLog.getTournament())
-                .stream()
-                .filter(game -> game.getRound() <= gameLog.getRound() && game.getWinner() != null)
-                .collect(Collectors.toList());
+    private TournamentResponse.TournamentResultResponse createResultResponse(TournamentState state) {
+        if (state.getWinner() == null) {
+            return null;
+        }
         
-        return calculateWinStreak(gameLog.getWinner(), previousGames);
+        // 우승자의 연승수 = 마지막 경기 시점의 연승
+        List<TournamentState.CompletedGame> games = state.getCompletedGames();
+        TournamentState.CompletedGame lastGame = games.isEmpty() ? null : games.get(games.size() - 1);
+        int winnerStreak = lastGame != null && lastGame.getWinner().getId().equals(state.getWinner().getId())
+                ? lastGame.getStreak() : 0;
+        
+        return TournamentResponse.TournamentResultResponse.builder()
+                .winner(createPlayerResponse(state.getWinner()))
+                .winnerStreak(winnerStreak)
+                .maxStreakPlayers(state.getMaxStreakPlayers().stream()
+                        .map(this::createPlayerResponse)
+                        .collect(Collectors.toList()))
+                .maxStreak(state.getMaxStreak())
+                .build();
+    }
+    
+    private List<TournamentResponse.GameLogResponse> createGameLogResponses(TournamentState state) {
+        // 최신 라운드부터 표시
+        List<TournamentState.CompletedGame> games = state.getCompletedGames();
+        List<TournamentResponse.GameLogResponse> responses = new ArrayList<>(games.size());
+        for (int i = games.size() - 1; i >= 0; i--) {
+            responses.add(createGameLogResponse(games.get(i)));
+        }
+        return responses;
+    }
+    
+    private TournamentResponse.GameLogResponse createGameLogResponse(TournamentState.CompletedGame game) {
+        return TournamentResponse.GameLogResponse.builder()
+                .winner(createPlayerResponse(game.getWinner()))
+                .loser(createPlayerResponse(game.getLoser()))
+                .map(MapResponse.from(game.getMap()))
+                .round(game.getRound())
+                .streak(game.getStreak())
+                .build();
     }
     
     private PlayerResponse createPlayerResponse(User user) {
@@ -432,6 +374,10 @@ public class TournamentService {
         public TournamentNotFoundException() {
             super("진행 중인 대회가 없습니다");
         }
+        
+        public TournamentNotFoundException(Long tournamentId) {
+            super("대회를 찾을 수 없습니다: " + tournamentId);
+        }
     }
     
     public static class TournamentAlreadyInProgressException extends BusinessException {
@@ -452,6 +398,12 @@ public class TournamentService {
         }
     }
     
+    public static class InvalidPlayerSelectionException extends BusinessException {
+        public InvalidPlayerSelectionException(String message) {
+            super(message);
+        }
+    }
+    
     public static class InvalidGameResultException extends BusinessException {
         public InvalidGameResultException(String message) {
             super(message);
@@ -0,0 +1,250 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.mukho.maskedstarcraft.entity.Map;
+import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.entity.TournamentSummary;
+import com.mukho.maskedstarcraft.entity.User;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 한 대회의 진행 상태를 메모리에 보관하는 객체.
+ * 변경은 {@link TournamentStateEngine}의 쓰기 락 안에서만 일어난다.
+ */
+@Getter
+public class TournamentState {
+
+    private final Long tournamentId;
+    private final String name;
+    private final LocalDateTime createdAt;
+    // 도전자 순서와 진영을 정한 시드 (시드가 없는 이전 대회는 null)
+    private final Long seed;
+    private Tournament.Status status;
+    private User winner;
+    private Match currentMatch;
+    private int nextRound = 1;
+
+    // 아직 경기하지 않은 도전자 (시작 시 정해진 순서대로 앞에서 꺼냄)
+    @Getter(AccessLevel.NONE)
+    private final ArrayDeque<User> challengers;
+    // 완료된 경기 (라운드 오름차순)
+    private final List<CompletedGame> completedGames = new ArrayList<>();
+
+    // 연승 카운터
+    private User king;
+    private int kingStreak;
+    private int maxStreak;
+    private final List<User> maxStreakPlayers = new ArrayList<>();
+
+    // 이 대회의 맵 선택기 (정책에 따라 상태를 가질 수 있음)
+    private MapSelectionPolicy.Selector mapSelector;
+
+    TournamentState(Long tournamentId, String name, LocalDateTime createdAt, Long seed, Tournament.Status status,
+                    List<User> challengers) {
+        this.tournamentId = tournamentId;
+        this.name = name;
+        this.createdAt = createdAt;
+        this.seed = seed;
+        this.status = status;
+        this.challengers = new ArrayDeque<>(challengers);
+    }
+    
+    /**
+     * 시드로 참가자 순서를 섞는다. 같은 참가자 목록과 시드면 항상 같은 순서가 나온다.
+     */
+    static List<User> seededOrder(List<User> players, long seed) {
+        List<User> order = new ArrayList<>(players);
+        Collections.shuffle(order, new Random(seed));
+        return order;
+    }
+
+    public List<CompletedGame> getCompletedGames() {
+        return Collections.unmodifiableList(completedGames);
+    }
+
+    public List<User> getMaxStreakPlayers() {
+        return Collections.unmodifiableList(maxStreakPlayers);
+    }
+
+    /**
+     * 다음에 나올 도전자를 순서대로 최대 limit명 반환한다.
+     */
+    public List<User> getUpcomingChallengers(int limit) {
+        List<User> upcoming = new ArrayList<>(Math.min(limit, challengers.size()));
+        Iterator<User> iterator = challengers.iterator();
+        while (iterator.hasNext() && upcoming.size() < limit) {
+            upcoming.add(iterator.next());
+        }
+        return upcoming;
+    }
+    
+    public int getRemainingChallengers() {
+        return challengers.size();
+    }
+    
+    /**
+     * 현재 경기 중이거나 차례를 기다리는 플레이어 ID.
+     */
+    public Set<Long> getPendingPlayerIds() {
+        Set<Long> playerIds = new HashSet<>();
+        if (currentMatch != null) {
+            playerIds.add(currentMatch.getPlayer1().getId());
+            playerIds.add(currentMatch.getPlayer2().getId());
+        }
+        for (User challenger : challengers) {
+            playerIds.add(challenger.getId());
+        }
+        return playerIds;
+    }
+
+    public boolean isInProgress() {
+        return status == Tournament.Status.IN_PROGRESS;
+    }
+
+    public boolean isParticipant(Long userId) {
+        return currentMatch != null
+                && (currentMatch.getPlayer1().getId().equals(userId) || currentMatch.getPlayer2().getId().equals(userId));
+    }
+
+    void setMapSelector(MapSelectionPolicy.Selector mapSelector) {
+        this.mapSelector = mapSelector;
+    }
+
+    void startMatch(Match match) {
+        this.currentMatch = match;
+        this.nextRound = match.getRound() + 1;
+    }
+
+    CompletedGame complete(Long winnerId) {
+        Match match = currentMatch;
+        User winner = match.getPlayer1().getId().equals(winnerId) ? match.getPlayer1() : match.getPlayer2();
+        User loser = winner == match.getPlayer1() ? match.getPlayer2() : match.getPlayer1();
+        int loserStreak = king != null && king.getId().equals(loser.getId()) ? kingStreak : 0;
+
+        // 직전 경기 승자와 같으면 연승 유지, 아니면 새 연승 시작
+        if (king != null && king.getId().equals(winner.getId())) {
+            kingStreak++;
+        } else {
+            king = winner;
+            kingStreak = 1;
+        }
+
+        if (kingStreak > maxStreak) {
+            maxStreak = kingStreak;
+            maxStreakPlayers.clear();
+            maxStreakPlayers.add(winner);
+        } else if (kingStreak == maxStreak
+                && maxStreakPlayers.stream().noneMatch(player -> player.getId().equals(winner.getId()))) {
+            maxStreakPlayers.add(winner);
+        }
+
+        CompletedGame game = new CompletedGame(match.getGameLogId(), match.getRound(), winner, loser,
+                match.getMap(), kingStreak, loserStreak, match.getPlayedAt());
+        completedGames.add(game);
+        currentMatch = null;
+        return game;
+    }
+
+    Optional<User> pollChallenger() {
+        return Optional.ofNullable(challengers.pollFirst());
+    }
+    
+    /**
+     * 해당 라운드에서 도전자를 player1로 둘지 여부. 시드가 있으면 라운드별로 결정적이다.
+     */
+    boolean challengerFirst(int round, Random fallback) {
+        if (seed == null) {
+            return fallback.nextBoolean();
+        }
+        return new Random(seed ^ (round * 0x9E3779B97F4A7C15L)).nextBoolean();
+    }
+
+    /**
+     * 해당 라운드의 맵 선택에 쓸 난수. 시드가 있으면 라운드별로 결정적이다 (도전자 순서와는 다른 수열).
+     */
+    Random mapRandom(int round, Random fallback) {
+        if (seed == null) {
+            return fallback;
+        }
+        return new Random(Long.rotateLeft(seed, 32) ^ (round * 0x9E3779B97F4A7C15L));
+    }
+
+    void removeChallenger(Long userId) {
+        challengers.removeIf(player -> player.getId().equals(userId));
+    }
+
+    void clearChallengers() {
+        challengers.clear();
+    }
+
+    void finish(User finalWinner) {
+        this.status = Tournament.Status.FINISHED;
+        this.winner = finalWinner;
+        this.currentMatch = null;
+    }
+
+    /**
+     * 종료된 대회의 요약을 만든다. tournament는 연관관계 설정용 참조.
+     */
+    TournamentSummary summarize(Tournament tournament) {
+        Set<Long> participantIds = new HashSet<>();
+        for (CompletedGame game : completedGames) {
+            participantIds.add(game.getWinner().getId());
+            participantIds.add(game.getLoser().getId());
+        }
+        CompletedGame lastGame = completedGames.isEmpty() ? null : completedGames.get(completedGames.size() - 1);
+        int winnerStreak = winner != null && king != null && king.getId().equals(winner.getId()) ? kingStreak : 0;
+
+        return TournamentSummary.builder()
+                .tournament(tournament)
+                .winner(winner)
+                .winnerStreak(winnerStreak)
+                .maxStreak(maxStreak)
+                .maxStreakPlayerIds(TournamentSummary.joinIds(maxStreakPlayers.stream()
+                        .map(User::getId)
+                        .collect(Collectors.toList())))
+                .totalGames(completedGames.size())
+                .totalParticipants(participantIds.size())
+                .startedAt(createdAt)
+                .finishedAt(lastGame != null ? lastGame.getPlayedAt() : null)
+                .build();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Match {
+        private final Long gameLogId;
+        private final int round;
+        private final User player1;
+        private final User player2;
+        private final Map map;
+        private final LocalDateTime playedAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CompletedGame {
+        private final Long gameLogId;
+        private final int round;
+        private final User winner;
+        private final User loser;
+        private final Map map;
+        private final int streak;
+        private final int loserStreak;
+        private final LocalDateTime playedAt;
+    }
+}
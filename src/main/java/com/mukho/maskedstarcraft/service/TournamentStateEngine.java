@@ -0,0 +1,506 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mukho.maskedstarcraft.entity.GameLog;
+import com.mukho.maskedstarcraft.entity.Map;
+import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.entity.User;
+import com.mukho.maskedstarcraft.repository.GameLogRepository;
+import com.mukho.maskedstarcraft.repository.TournamentRepository;
+import com.mukho.maskedstarcraft.repository.TournamentSummaryRepository;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대회별 진행 상태의 단일 작성자(single-writer).
+ * 메모리 상태가 원본이고 DB는 write-through 저널로만 사용하며, 시작 시 game_logs로부터 재구성한다.
+ * 대회마다 락과 버전을 따로 가지므로 여러 대회를 동시에 진행해도 서로 막지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TournamentStateEngine {
+
+    // 메모리에 남겨 두는 종료된 대회 수 (더 오래된 대회는 조회 시 다시 불러옴)
+    private static final int MAX_FINISHED_TOURNAMENTS = 16;
+
+    private final TournamentRepository tournamentRepository;
+    private final UserRepository userRepository;
+    private final MapService mapService;
+    private final MapSelectionPolicy mapSelectionPolicy;
+    private final GameLogRepository gameLogRepository;
+    private final TournamentSummaryRepository tournamentSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+    // 재구성/지연 로딩 직렬화
+    private final Object loadLock = new Object();
+    // 모든 대회에 걸쳐 고유한 리비전 (응답 캐시 무효화용)
+    private final AtomicLong revisions = new AtomicLong();
+    private final Random random = new Random();
+
+    // 가장 최근에 시작된 대회 (/tournaments/current)
+    private volatile Long currentTournamentId;
+    private volatile boolean loaded = false;
+
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (loadLock) {
+            List<Tournament> tournaments = new ArrayList<>(tournamentRepository.findActiveTournaments());
+            // 최근 종료 대회가 진행 중인 대회보다 나중에 시작했으면 그 대회가 현재 대회
+            Long latestActiveId = tournaments.isEmpty() ? null : tournaments.get(tournaments.size() - 1).getId();
+            tournamentRepository.findLatestFinishedTournament()
+                    .filter(finished -> latestActiveId == null || finished.getId() > latestActiveId)
+                    .ifPresent(tournaments::add);
+
+            boolean needsPlayers = tournaments.stream()
+                    .anyMatch(tournament -> tournament.getStatus() == Tournament.Status.IN_PROGRESS);
+            List<User> activePlayers = needsPlayers ? userRepository.findActivePlayersOrderByCreatedAt() : List.of();
+
+            Set<Long> loadedIds = new HashSet<>();
+            for (Tournament tournament : tournaments) {
+                install(tournament.getId(), replay(tournament, activePlayers));
+                loadedIds.add(tournament.getId());
+            }
+            // 커밋되지 않은 대회 등 DB에 없는 진행 중 상태는 버림 (종료된 대회는 바뀌지 않으므로 유지)
+            slots.entrySet().removeIf(entry -> !loadedIds.contains(entry.getKey())
+                    && (entry.getValue().state == null || entry.getValue().state.getStatus() != Tournament.Status.FINISHED));
+
+            currentTournamentId = tournaments.isEmpty() ? null : tournaments.get(tournaments.size() - 1).getId();
+            loaded = true;
+
+            log.info("Tournament state rebuilt: {}", tournaments.isEmpty() ? "no tournament"
+                    : tournaments.stream()
+                            .map(tournament -> "tournament " + tournament.getId() + " (" + tournament.getStatus() + ", "
+                                    + slots.get(tournament.getId()).state.getCompletedGames().size() + " games)")
+                            .collect(Collectors.joining(", ")));
+        }
+    }
+
+    /**
+     * 읽기 락 안에서 현재 대회(가장 최근에 시작된 대회) 상태를 읽는다. 대회가 없으면 null이 전달된다.
+     */
+    public <T> T read(Function<TournamentState, T> reader) {
+        ensureLoaded();
+        Long tournamentId = currentTournamentId;
+        if (tournamentId == null) {
+            return reader.apply(null);
+        }
+        return read(tournamentId, reader);
+    }
+
+    /**
+     * 읽기 락 안에서 특정 대회 상태를 읽는다. 메모리에 없으면 DB에서 불러온다.
+     */
+    public <T> T read(Long tournamentId, Function<TournamentState, T> reader) {
+        Slot slot = slot(tournamentId);
+        slot.lock.readLock().lock();
+        try {
+            return reader.apply(slot.state);
+        } finally {
+            slot.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 진행 중인 대회들을 시작 순서대로 읽는다.
+     */
+    public <T> List<T> readActive(Function<TournamentState, T> reader) {
+        ensureLoaded();
+        List<T> results = new ArrayList<>();
+        for (Long tournamentId : new TreeSet<>(slots.keySet())) {
+            Slot slot = slots.get(tournamentId);
+            if (slot == null) {
+                continue;
+            }
+            slot.lock.readLock().lock();
+            try {
+                if (slot.state != null && slot.state.isInProgress()) {
+                    results.add(reader.apply(slot.state));
+                }
+            } finally {
+                slot.lock.readLock().unlock();
+            }
+        }
+        return results;
+    }
+
+    public Long getCurrentTournamentId() {
+        ensureLoaded();
+        return currentTournamentId;
+    }
+
+    /**
+     * 대회 상태가 바뀔 때마다 1씩 증가하는 대회별 순번 (대회 시작, 경기 결과, 대회 종료, 재구성).
+     */
+    public long getSequence(Long tournamentId) {
+        return slot(tournamentId).sequence;
+    }
+
+    /**
+     * 대회 상태가 바뀔 때마다 바뀌는, 모든 대회에 걸쳐 고유한 리비전. 대회가 없으면 0.
+     */
+    public long getRevision(Long tournamentId) {
+        return tournamentId == null ? 0 : slot(tournamentId).revision;
+    }
+
+    /**
+     * 현재 경기에 출전 중인 플레이어의 대회를 찾는다 (대회 ID 없이 들어온 결과 입력용).
+     */
+    public Optional<Long> findTournamentOfParticipant(Long userId) {
+        ensureLoaded();
+        return readActive(state -> state.isParticipant(userId) ? state.getTournamentId() : null).stream()
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    /**
+     * 진행 중인 대회에서 현재 경기 중이거나 차례를 기다리는 플레이어.
+     */
+    public Set<Long> getEngagedPlayerIds() {
+        Set<Long> playerIds = new HashSet<>();
+        readActive(TournamentState::getPendingPlayerIds).forEach(playerIds::addAll);
+        return playerIds;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            transactionTemplate.executeWithoutResult(status -> rebuild());
+        }
+    }
+
+    private Slot slot(Long tournamentId) {
+        ensureLoaded();
+        Slot slot = slots.get(tournamentId);
+        if (slot != null) {
+            return slot;
+        }
+        return transactionTemplate.execute(status -> load(tournamentId));
+    }
+
+    private Slot load(Long tournamentId) {
+        synchronized (loadLock) {
+            Slot existing = slots.get(tournamentId);
+            if (existing != null) {
+                return existing;
+            }
+            Tournament tournament = tournamentRepository.findById(tournamentId)
+                    .orElseThrow(() -> new TournamentService.TournamentNotFoundException(tournamentId));
+            List<User> activePlayers = tournament.getStatus() == Tournament.Status.IN_PROGRESS
+                    ? userRepository.findActivePlayersOrderByCreatedAt() : List.of();
+            Slot slot = install(tournamentId, replay(tournament, activePlayers));
+            pruneFinished();
+            log.info("Tournament {} loaded ({})", tournamentId, tournament.getStatus());
+            return slot;
+        }
+    }
+
+    private Slot install(Long tournamentId, TournamentState state) {
+        Slot slot = slots.computeIfAbsent(tournamentId, id -> new Slot());
+        slot.lock.writeLock().lock();
+        try {
+            slot.state = state;
+            touch(slot);
+        } finally {
+            slot.lock.writeLock().unlock();
+        }
+        return slot;
+    }
+
+    /**
+     * 오래된 종료 대회부터 메모리에서 내린다 (현재 대회는 유지).
+     */
+    private void pruneFinished() {
+        List<Long> finishedIds = slots.entrySet().stream()
+                .filter(entry -> entry.getValue().state != null
+                        && entry.getValue().state.getStatus() == Tournament.Status.FINISHED)
+                .map(java.util.Map.Entry::getKey)
+                .filter(id -> !id.equals(currentTournamentId))
+                .sorted()
+                .collect(Collectors.toList());
+        for (int i = 0; i < finishedIds.size() - MAX_FINISHED_TOURNAMENTS; i++) {
+            slots.remove(finishedIds.get(i));
+        }
+    }
+
+    private void touch(Slot slot) {
+        slot.sequence++;
+        slot.revision = revisions.incrementAndGet();
+    }
+
+    /**
+     * challengerOrder는 tournament에 저장된 시드 순서 그대로의 참가자 목록.
+     */
+    public TournamentState start(Tournament tournament, List<User> challengerOrder) {
+        ensureLoaded();
+        resetOnRollback();
+
+        TournamentState newState = new TournamentState(tournament.getId(), tournament.getName(),
+                tournament.getCreatedAt(), tournament.getSeed(), tournament.getStatus(), challengerOrder);
+        newState.setMapSelector(mapSelectionPolicy.newSelector());
+
+        // 정해진 순서의 첫 두 명으로 첫 경기
+        User player1 = newState.pollChallenger().orElseThrow();
+        User player2 = newState.pollChallenger().orElseThrow();
+
+        TournamentState.Match firstMatch = createMatch(newState, player1, player2);
+        newState.startMatch(firstMatch);
+
+        synchronized (loadLock) {
+            install(tournament.getId(), newState);
+            currentTournamentId = tournament.getId();
+            pruneFinished();
+        }
+
+        log.info("First game created in tournament {}: {} vs {} on {}", tournament.getId(),
+                firstMatch.getPlayer1().getNickname(), firstMatch.getPlayer2().getNickname(),
+                firstMatch.getMap().getName());
+        return newState;
+    }
+
+    /**
+     * expectedRound가 있으면 현재 경기의 라운드와 같을 때만 반영한다 (중복 제출 방지).
+     */
+    public TournamentState.CompletedGame recordResult(Long tournamentId, Long winnerId, Integer expectedRound) {
+        Slot slot = slot(tournamentId);
+        slot.lock.writeLock().lock();
+        try {
+            TournamentState current = slot.state;
+            if (current == null || current.getStatus() == Tournament.Status.FINISHED) {
+                throw new TournamentService.TournamentNotFoundException();
+            }
+            if (!current.isInProgress()) {
+                throw new TournamentService.InvalidGameResultException("진행 중인 대회가 아닙니다");
+            }
+            if (current.getCurrentMatch() == null) {
+                throw new TournamentService.InvalidGameResultException("진행 중인 경기가 없습니다");
+            }
+            if (expectedRound != null && expectedRound != current.getCurrentMatch().getRound()) {
+                throw new TournamentService.InvalidGameResultException(
+                        "이미 결과가 기록된 경기입니다 (현재 " + current.getCurrentMatch().getRound() + "라운드)");
+            }
+            if (!current.isParticipant(winnerId)) {
+                throw new TournamentService.InvalidGameResultException("경기 참가자가 아닙니다");
+            }
+
+            resetOnRollback();
+
+            TournamentState.CompletedGame game = current.complete(winnerId);
+            gameLogRepository.updateResult(game.getGameLogId(), game.getWinner(), game.getStreak(), game.getLoserStreak());
+
+            // 다음 도전자 (정해진 순서에서 꺼냄) 또는 대회 종료
+            Optional<User> nextChallenger = current.pollChallenger();
+            if (nextChallenger.isPresent()) {
+                TournamentState.Match nextMatch = createMatch(current, game.getWinner(), nextChallenger.get());
+                current.startMatch(nextMatch);
+
+                log.info("Next game created in tournament {}: {} vs {} on {} (Round {})", tournamentId,
+                        nextMatch.getPlayer1().getNickname(), nextMatch.getPlayer2().getNickname(),
+                        nextMatch.getMap().getName(), nextMatch.getRound());
+            } else {
+                finish(current, game.getWinner());
+            }
+
+            touch(slot);
+            return game;
+        } finally {
+            slot.lock.writeLock().unlock();
+        }
+    }
+
+    public void onPlayerRemoved(Long userId) {
+        forEachActive(state -> state.removeChallenger(userId));
+    }
+
+    public void onAllPlayersRemoved() {
+        forEachActive(TournamentState::clearChallengers);
+    }
+
+    private void forEachActive(Consumer<TournamentState> action) {
+        for (Slot slot : slots.values()) {
+            slot.lock.writeLock().lock();
+            try {
+                if (slot.state != null && slot.state.isInProgress()) {
+                    action.accept(slot.state);
+                }
+            } finally {
+                slot.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void finish(TournamentState current, User finalWinner) {
+        current.finish(finalWinner);
+
+        // 첫 번째 최다연승자만 저장 (기존 DB 구조 유지)
+        List<User> maxStreakPlayers = current.getMaxStreakPlayers();
+        tournamentRepository.updateResult(current.getTournamentId(), Tournament.Status.FINISHED, finalWinner,
+                maxStreakPlayers.isEmpty() ? null : maxStreakPlayers.get(0));
+        tournamentSummaryRepository.save(current.summarize(tournamentRepository.getReferenceById(current.getTournamentId())));
+
+        log.info("Tournament {} finished. Winner: {}, Max streak players: {}",
+                current.getTournamentId(), finalWinner.getNickname(),
+                maxStreakPlayers.stream()
+                        .map(User::getNickname)
+                        .collect(Collectors.joining(", ")));
+    }
+
+    private TournamentState.Match createMatch(TournamentState current, User king, User challenger) {
+        int round = current.getNextRound();
+
+        // 플레이어 순서는 시드와 라운드로 결정
+        User player1 = king;
+        User player2 = challenger;
+        if (current.challengerFirst(round, random)) {
+            player1 = challenger;
+            player2 = king;
+        }
+
+        Map selectedMap = selectMap(current, round);
+
+        GameLog gameLog = GameLog.builder()
+                .tournament(tournamentRepository.getReferenceById(current.getTournamentId()))
+                .map(selectedMap)
+                .player1(player1)
+                .player2(player2)
+                .round(round)
+                .build();
+        gameLogRepository.save(gameLog);
+
+        return new TournamentState.Match(gameLog.getId(), round, player1, player2, selectedMap, gameLog.getCreatedAt());
+    }
+
+    private Map selectMap(TournamentState current, int round) {
+        // 맵 목록은 MapService의 스냅샷에서, 선택은 설정된 정책으로 (DB 조회 없음)
+        MapCatalog catalog = mapService.getCatalog();
+        if (catalog.isEmpty()) {
+            throw new TournamentService.InsufficientMapsException();
+        }
+        return current.getMapSelector().next(catalog, current.mapRandom(round, random));
+    }
+
+    /**
+     * activePlayers는 진행 중인 대회의 남은 도전자를 구할 때만 사용한다.
+     */
+    private TournamentState replay(Tournament tournament, List<User> activePlayers) {
+        if (tournament.getStatus() == Tournament.Status.PREPARING) {
+            return new TournamentState(tournament.getId(), tournament.getName(), tournament.getCreatedAt(),
+                    tournament.getSeed(), tournament.getStatus(), List.of());
+        }
+
+        List<GameLog> gameLogs = gameLogRepository.findDetailedByTournamentIdOrderByRoundAsc(tournament.getId());
+
+        List<User> challengers = List.of();
+        if (tournament.getStatus() == Tournament.Status.IN_PROGRESS) {
+            Set<Long> playedPlayerIds = gameLogs.stream()
+                    .flatMap(game -> java.util.stream.Stream.of(game.getPlayer1().getId(), game.getPlayer2().getId()))
+                    .collect(Collectors.toSet());
+            challengers = remainingChallengers(tournament, activePlayers, playedPlayerIds);
+        }
+
+        TournamentState replayed = new TournamentState(tournament.getId(), tournament.getName(),
+                tournament.getCreatedAt(), tournament.getSeed(), tournament.getStatus(), challengers);
+        // 진행 중인 대회만 이후 경기 맵을 고르므로 선택기 상태를 재구성
+        boolean inProgress = tournament.getStatus() == Tournament.Status.IN_PROGRESS;
+        MapCatalog catalog = inProgress ? mapService.getCatalog() : null;
+        if (inProgress) {
+            replayed.setMapSelector(mapSelectionPolicy.newSelector());
+        }
+
+        // 세션 종료 후에도 읽을 수 있도록 지연 로딩 프록시를 실제 객체로 변환
+        for (GameLog game : gameLogs) {
+            replayed.startMatch(new TournamentState.Match(game.getId(), game.getRound(),
+                    Hibernate.unproxy(game.getPlayer1(), User.class),
+                    Hibernate.unproxy(game.getPlayer2(), User.class),
+                    Hibernate.unproxy(game.getMap(), Map.class),
+                    game.getCreatedAt()));
+            if (inProgress) {
+                replayed.getMapSelector().replay(replayed.getCurrentMatch().getMap(), catalog,
+                        replayed.mapRandom(game.getRound(), random));
+            }
+            if (game.getWinner() != null) {
+                replayed.complete(game.getWinner().getId());
+            }
+        }
+
+        if (tournament.getStatus() == Tournament.Status.FINISHED) {
+            replayed.finish(tournament.getWinnerUser() == null ? null
+                    : Hibernate.unproxy(tournament.getWinnerUser(), User.class));
+        }
+
+        return replayed;
+    }
+
+    /**
+     * 저장된 도전자 순서에서 아직 경기하지 않은 활성 참가자만 남긴다.
+     * 순서가 저장되지 않은 이전 대회는 남은 참가자를 무작위로 섞는다.
+     */
+    private List<User> remainingChallengers(Tournament tournament, List<User> activePlayers,
+                                            Set<Long> playedPlayerIds) {
+        java.util.Map<Long, User> remainingPlayers = activePlayers.stream()
+                .filter(player -> !playedPlayerIds.contains(player.getId()))
+                .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a,
+                        LinkedHashMap::new));
+
+        if (tournament.getChallengerOrder() == null) {
+            List<User> remaining = new ArrayList<>(remainingPlayers.values());
+            Collections.shuffle(remaining, random);
+            return remaining;
+        }
+
+        return tournament.getChallengerOrderIds().stream()
+                .map(remainingPlayers::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 한 대회의 상태와 그 대회 전용 락. sequence와 revision은 쓰기 락 안에서만 바뀐다.
+     */
+    private static final class Slot {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile TournamentState state;
+        private volatile long sequence;
+        private volatile long revision;
+    }
+
+    private void resetOnRollback() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    log.warn("Tournament transaction rolled back, state will be rebuilt");
+                    loaded = false;
+                }
+            }
+        });
+    }
+}
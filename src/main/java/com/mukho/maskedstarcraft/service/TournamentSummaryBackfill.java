@@ -0,0 +1,54 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mukho.maskedstarcraft.entity.GameLog;
+import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.repository.GameLogRepository;
+import com.mukho.maskedstarcraft.repository.TournamentRepository;
+import com.mukho.maskedstarcraft.repository.TournamentSummaryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * tournament_summary 테이블이 생기기 전에 종료된 대회의 요약을 경기 기록으로부터 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class TournamentSummaryBackfill {
+
+    private final TournamentRepository tournamentRepository;
+    private final GameLogRepository gameLogRepository;
+    private final TournamentSummaryRepository tournamentSummaryRepository;
+
+    public void backfill() {
+        List<Tournament> tournaments = tournamentRepository.findFinishedTournamentsWithoutSummary();
+        if (tournaments.isEmpty()) {
+            return;
+        }
+
+        for (Tournament tournament : tournaments) {
+            TournamentState state = new TournamentState(tournament.getId(), tournament.getName(), tournament.getCreatedAt(),
+                    tournament.getSeed(), Tournament.Status.IN_PROGRESS, List.of());
+
+            for (GameLog game : gameLogRepository.findDetailedByTournamentIdOrderByRoundAsc(tournament.getId())) {
+                state.startMatch(new TournamentState.Match(game.getId(), game.getRound(),
+                        game.getPlayer1(), game.getPlayer2(), game.getMap(), game.getCreatedAt()));
+                if (game.getWinner() != null) {
+                    state.complete(game.getWinner().getId());
+                }
+            }
+            state.finish(tournament.getWinnerUser());
+
+            tournamentSummaryRepository.save(state.summarize(tournament));
+        }
+
+        log.info("Built summaries for {} finished tournaments", tournaments.size());
+    }
+}
@@ -0,0 +1,17 @@
+package com.mukho.maskedstarcraft.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 활성 맵 중 균등하게 무작위 선택 (기본값).
+ */
+@Component
+@ConditionalOnProperty(name = "tournament.map-selection", havingValue = "uniform", matchIfMissing = true)
+public class UniformMapSelectionPolicy implements MapSelectionPolicy {
+    
+    @Override
+    public Selector newSelector() {
+        return (catalog, random) -> catalog.pickUniform(random);
+    }
+}
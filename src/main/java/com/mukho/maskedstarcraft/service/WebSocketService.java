@@ -1,60 +1,103 @@
 package com.mukho.maskedstarcraft.service;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.mukho.maskedstarcraft.dto.response.TournamentEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 브로드캐스트 요청을 트랜잭션 이벤트로 발행한다.
+ * 실제 전송은 커밋 이후 {@link BroadcastDispatcher}가 묶어서 처리한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketService {
     
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    
+    // 기존 문자열 메시지("update", "refresh_required" 등) 전송 여부 (구버전 클라이언트 호환용)
+    @Value("${websocket.legacy-messages.enabled:true}")
+    private boolean legacyMessagesEnabled;
+    
+    public void broadcastTournamentEvent(TournamentEvent event) {
+        // 대회별 토픽에는 그 대회 이벤트만, 기존 전체 토픽에는 모든 대회 이벤트
+        timed("tournament-event", () -> {
+            publish("/topic/tournaments/" + event.getTournamentId(), "event", event);
+            publish("/topic/tournament", "event:" + event.getTournamentId(), event);
+        });
+        log.info("Tournament event queued: {} for tournament {} (seq {})", event.getType(), event.getTournamentId(),
+                event.getSequence());
+    }
     
     public void broadcastTournamentUpdate() {
-        try {
-            messagingTemplate.convertAndSend("/topic/tournament", "update");
-            log.info("Tournament update broadcasted");
-        } catch (Exception e) {
-            log.error("Failed to broadcast tournament update", e);
+        if (!legacyMessagesEnabled) {
+            return;
         }
+        timed("update", () -> publish("/topic/tournament", "update"));
+        log.info("Tournament update queued");
     }
     
     public void broadcastGameResult(String message) {
-        try {
-            messagingTemplate.convertAndSend("/topic/game-result", message);
-            log.info("Game result broadcasted: {}", message);
-        } catch (Exception e) {
-            log.error("Failed to broadcast game result", e);
+        if (!legacyMessagesEnabled) {
+            return;
         }
+        timed("game-result", () -> publish("/topic/game-result", message));
+        log.info("Game result queued: {}", message);
     }
     
     public void broadcastTournamentStart() {
-        try {
-            messagingTemplate.convertAndSend("/topic/tournament", "tournament_started");
-            log.info("Tournament start broadcasted");
-        } catch (Exception e) {
-            log.error("Failed to broadcast tournament start", e);
+        if (!legacyMessagesEnabled) {
+            return;
         }
+        timed("tournament-start", () -> publish("/topic/tournament", "tournament_started"));
+        log.info("Tournament start queued");
     }
     
     public void broadcastTournamentFinish(String winner) {
-        try {
-            messagingTemplate.convertAndSend("/topic/tournament", "tournament_finished:" + winner);
-            log.info("Tournament finish broadcasted with winner: {}", winner);
-        } catch (Exception e) {
-            log.error("Failed to broadcast tournament finish", e);
+        if (!legacyMessagesEnabled) {
+            return;
         }
+        timed("tournament-finish", () -> publish("/topic/tournament", "tournament_finished:" + winner));
+        log.info("Tournament finish queued with winner: {}", winner);
     }
     
     public void broadcastRefreshRequired() {
+        if (!legacyMessagesEnabled) {
+            return;
+        }
+        timed("refresh-required", () -> publish("/topic/refresh", "refresh_required"));
+        log.info("Refresh required queued");
+    }
+    
+    /**
+     * 브로드캐스트 종류별 큐 등록 시간과 횟수. 실제 전송 지표는 {@link BroadcastDispatcher}가 기록한다.
+     */
+    private void timed(String type, Runnable publishing) {
+        Timer.builder("websocket.broadcast.publish")
+                .description("브로드캐스트 요청을 전송 큐에 넣는 시간")
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(publishing);
+    }
+    
+    private void publish(String destination, String message) {
+        // 같은 문자열은 한 번만 보내면 되므로 문자열 자체를 병합 키로 사용
+        publish(destination, message, message);
+    }
+    
+    private void publish(String destination, Object coalesceKey, Object payload) {
         try {
-            messagingTemplate.convertAndSend("/topic/refresh", "refresh_required");
-            log.info("Refresh required broadcasted");
+            eventPublisher.publishEvent(new BroadcastMessage(destination, coalesceKey, payload));
         } catch (Exception e) {
-            log.error("Failed to broadcast refresh requirement", e);
+            log.error("Failed to queue broadcast to {}", destination, e);
         }
     }
 }
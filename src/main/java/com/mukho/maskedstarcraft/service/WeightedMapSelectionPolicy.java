@@ -0,0 +1,17 @@
+package com.mukho.maskedstarcraft.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 맵 가중치(Map.weight)에 비례해 무작위 선택.
+ */
+@Component
+@ConditionalOnProperty(name = "tournament.map-selection", havingValue = "weighted")
+public class WeightedMapSelectionPolicy implements MapSelectionPolicy {
+    
+    @Override
+    public Selector newSelector() {
+        return (catalog, random) -> catalog.pickWeighted(random);
+    }
+}
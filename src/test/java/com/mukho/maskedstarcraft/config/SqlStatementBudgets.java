@@ -0,0 +1,53 @@
+package com.mukho.maskedstarcraft.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 통합 테스트에서 SQL 문 수를 세고 엔드포인트 예산(sql.budget.*)을 검증하는 도우미.
+ */
+public final class SqlStatementBudgets {
+
+    private SqlStatementBudgets() {
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    /**
+     * action이 현재 스레드에서 실행한 SQL 문 수
+     */
+    public static int countStatements(Action action) throws Exception {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            action.run();
+            return scope.getStatements();
+        }
+    }
+
+    /**
+     * 요청을 실행하고, 매핑된 엔드포인트의 예산 안에서 처리됐는지 검증한다.
+     */
+    public static MvcResult performWithinBudget(MockMvc mockMvc, SqlStatementBudgetFilter budgets,
+                                                RequestBuilder request) throws Exception {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            MvcResult result = mockMvc.perform(request).andReturn();
+            Object pattern = result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            assertThat(pattern).as("매핑된 엔드포인트").isNotNull();
+
+            String endpoint = result.getRequest().getMethod() + " " + pattern;
+            assertThat(scope.getStatements())
+                    .as("%s SQL 문 수", endpoint)
+                    .isLessThanOrEqualTo(budgets.budgetOf(endpoint));
+            assertThat(scope.getMaxRepeats())
+                    .as("%s 반복 실행된 SQL: %s", endpoint, scope.getMostRepeatedStatement())
+                    .isLessThan(budgets.getRepeatThreshold());
+            return result;
+        }
+    }
+}
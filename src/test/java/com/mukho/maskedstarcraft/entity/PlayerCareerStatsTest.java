@@ -0,0 +1,58 @@
+package com.mukho.maskedstarcraft.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PlayerCareerStatsTest {
+
+    @Test
+    void winsAndLossesAreCountedPerOpponentRace() {
+        PlayerCareerStats stats = PlayerCareerStats.builder().build();
+
+        stats.recordWin("테란", 1);
+        stats.recordWin("저그", 2);
+        stats.recordWin("저그", 3);
+        stats.recordLoss("프로토스");
+        stats.recordWin("프로토스", 1);
+        stats.recordLoss("테란");
+        stats.recordLoss("테란");
+
+        assertThat(stats.getWins()).isEqualTo(4);
+        assertThat(stats.getLosses()).isEqualTo(3);
+        assertThat(stats.getVsTerranWins()).isEqualTo(1);
+        assertThat(stats.getVsTerranLosses()).isEqualTo(2);
+        assertThat(stats.getVsZergWins()).isEqualTo(2);
+        assertThat(stats.getVsZergLosses()).isZero();
+        assertThat(stats.getVsProtossWins()).isEqualTo(1);
+        assertThat(stats.getVsProtossLosses()).isEqualTo(1);
+    }
+
+    @Test
+    void longestStreakKeepsTheBestRun() {
+        PlayerCareerStats stats = PlayerCareerStats.builder().build();
+
+        stats.recordWin("테란", 1);
+        stats.recordWin("테란", 2);
+        stats.recordWin("테란", 3);
+        stats.recordLoss("저그");
+        stats.recordWin("저그", 1);
+
+        assertThat(stats.getLongestStreak()).isEqualTo(3);
+    }
+
+    @Test
+    void unknownRaceCountsOnlyTowardsTotals() {
+        PlayerCareerStats stats = PlayerCareerStats.builder().build();
+
+        stats.recordWin("랜덤", 1);
+        stats.recordLoss("랜덤");
+        stats.recordTitle();
+
+        assertThat(stats.getWins()).isEqualTo(1);
+        assertThat(stats.getLosses()).isEqualTo(1);
+        assertThat(stats.getTitles()).isEqualTo(1);
+        assertThat(stats.getVsTerranWins() + stats.getVsZergWins() + stats.getVsProtossWins()).isZero();
+        assertThat(stats.getVsTerranLosses() + stats.getVsZergLosses() + stats.getVsProtossLosses()).isZero();
+    }
+}
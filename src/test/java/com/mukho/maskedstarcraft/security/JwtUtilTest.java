@@ -0,0 +1,150 @@
+package com.mukho.maskedstarcraft.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "maskedstarcraft-secret-key-for-development-only-change-in-production";
+
+    private JwtParser parser;
+
+    @Test
+    void cachedTokenIsNotParsedAgain() {
+        JwtUtil jwtUtil = countingParses(new JwtUtil(SECRET, 60_000, 16));
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+
+        JwtClaims first = jwtUtil.parse(token).orElseThrow();
+        JwtClaims second = jwtUtil.parse(token).orElseThrow();
+        JwtClaims third = jwtUtil.parse(token).orElseThrow();
+
+        verify(parser, times(1)).parseSignedClaims(anyString());
+        assertThat(second).isEqualTo(first);
+        assertThat(third.nickname()).isEqualTo("player1");
+        assertThat(third.role()).isEqualTo("PLAYER");
+    }
+
+    @Test
+    void expiredCachedTokenIsRejected() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        JwtUtil jwtUtil = countingParses(new JwtUtil(SECRET, 60_000, 16, clock));
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(jwtUtil.parse(token)).isPresent();
+
+        clock.advance(Duration.ofSeconds(2));
+        clearInvocations(parser);
+
+        // 캐시에서 만료를 확인하고 다시 파싱하지 않고 거부
+        assertThat(jwtUtil.parse(token)).isEmpty();
+        verify(parser, never()).parseSignedClaims(anyString());
+        // 캐시에서 빠졌으므로 다음에는 파서가 만료를 판단
+        assertThat(jwtUtil.parse(token)).isEmpty();
+        verify(parser, times(1)).parseSignedClaims(anyString());
+    }
+
+    @Test
+    void tamperedTokenDoesNotHitTheCache() {
+        JwtUtil jwtUtil = countingParses(new JwtUtil(SECRET, 60_000, 16));
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+        assertThat(jwtUtil.parse(token)).isPresent();
+        clearInvocations(parser);
+
+        String[] parts = token.split("\\.");
+        // 서명은 그대로 두고 권한만 바꾼 토큰
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"PLAYER\"", "\"ADMIN\"");
+        String escalated = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+        // 서명 첫 글자만 바꾼 토큰 (마지막 글자는 남는 비트만 바뀔 수 있어 첫 글자를 바꿈)
+        char first = parts[2].charAt(0);
+        String resigned = parts[0] + "." + parts[1] + "." + (first == 'A' ? 'B' : 'A') + parts[2].substring(1);
+
+        assertThat(jwtUtil.parse(escalated)).isEmpty();
+        assertThat(jwtUtil.parse(resigned)).isEmpty();
+        verify(parser, times(2)).parseSignedClaims(anyString());
+
+        // 실패한 토큰은 캐시에 남지 않는다
+        assertThat(jwtUtil.parse(escalated)).isEmpty();
+        verify(parser, times(3)).parseSignedClaims(anyString());
+        assertThat(jwtUtil.parse(token).orElseThrow().role()).isEqualTo("PLAYER");
+    }
+
+    @Test
+    void tokenWithoutExpirationIsRejected() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 16);
+        String token = Jwts.builder()
+                .subject("player1")
+                .claim("role", "ADMIN")
+                .issuedAt(new Date())
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), Jwts.SIG.HS512)
+                .compact();
+
+        assertThat(jwtUtil.parse(token)).isEmpty();
+    }
+
+    /**
+     * 테스트에서 직접 옮기는 시계
+     */
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * 실제 파서에 위임하면서 호출 횟수를 세는 파서로 바꾼다.
+     */
+    private JwtUtil countingParses(JwtUtil jwtUtil) {
+        JwtParser real = (JwtParser) ReflectionTestUtils.getField(jwtUtil, "parser");
+        parser = mock(JwtParser.class, withSettings().defaultAnswer(AdditionalAnswers.delegatesTo(real)));
+        ReflectionTestUtils.setField(jwtUtil, "parser", parser);
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,73 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mukho.maskedstarcraft.dto.request.ApplyRequest;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private NicknameIndex nicknameIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void nicknameIsIndexedOnlyAfterCommit() {
+        String nickname = "apply-" + UUID.randomUUID().toString().substring(0, 8);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            authService.apply(request(nickname));
+            // 저장은 됐지만 아직 커밋 전이므로 색인에는 없다
+            assertThat(userRepository.existsByNickname(nickname)).isTrue();
+            assertThat(nicknameIndex.isTaken(nickname)).isFalse();
+        });
+
+        assertThat(nicknameIndex.isTaken(nickname)).isTrue();
+        assertThat(nicknameIndex.isTaken(nickname.toUpperCase())).isTrue();
+    }
+
+    @Test
+    void rolledBackRegistrationLeavesTheNicknameAvailable() {
+        String nickname = "apply-" + UUID.randomUUID().toString().substring(0, 8);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            authService.apply(request(nickname));
+            status.setRollbackOnly();
+        });
+
+        assertThat(userRepository.existsByNickname(nickname)).isFalse();
+        assertThat(nicknameIndex.isTaken(nickname)).isFalse();
+
+        // 같은 닉네임으로 다시 신청할 수 있다
+        authService.apply(request(nickname));
+        assertThat(userRepository.existsByNickname(nickname)).isTrue();
+        assertThat(nicknameIndex.isTaken(nickname)).isTrue();
+    }
+
+    private ApplyRequest request(String nickname) {
+        ApplyRequest request = new ApplyRequest();
+        request.setName("신청자");
+        request.setNickname(nickname);
+        request.setPassword("1234");
+        request.setRace("프로토스");
+        return request;
+    }
+}
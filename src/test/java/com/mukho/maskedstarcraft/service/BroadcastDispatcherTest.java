@@ -0,0 +1,116 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.mukho.maskedstarcraft.dto.response.TournamentEvent;
+import com.mukho.maskedstarcraft.dto.response.TournamentResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BroadcastDispatcherTest {
+
+    private static final String TOPIC = "/topic/tournaments/1";
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 구간을 넉넉히 잡아 아래 이벤트가 모두 한 구간에 들어가게 한다
+    private final BroadcastDispatcher dispatcher = new BroadcastDispatcher(messagingTemplate, meterRegistry, 300);
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void eventsOfDifferentTypesInOneWindowAreSentSeparatelyInOrder() {
+        dispatcher.onBroadcast(new BroadcastMessage(TOPIC, "event", started(1L)));
+        dispatcher.onBroadcast(new BroadcastMessage(TOPIC, "event", gameFinished(2L, 1)));
+        dispatcher.onBroadcast(new BroadcastMessage(TOPIC, "event", gameFinished(3L, 2)));
+
+        List<Object> sent = sentTo(TOPIC, 2);
+        TournamentEvent first = (TournamentEvent) sent.get(0);
+        TournamentEvent second = (TournamentEvent) sent.get(1);
+
+        assertThat(first.getType()).isEqualTo(TournamentEvent.Type.TOURNAMENT_STARTED);
+        assertThat(first.getSequence()).isEqualTo(1L);
+        // 같은 종류의 경기 종료 이벤트만 최신 상태로 합쳐지고 끝난 경기는 누적된다
+        assertThat(second.getType()).isEqualTo(TournamentEvent.Type.GAME_FINISHED);
+        assertThat(second.getSequence()).isEqualTo(3L);
+        assertThat(second.getFinishedGames()).extracting(TournamentResponse.GameLogResponse::getRound)
+                .containsExactly(1, 2);
+        assertThat(meterRegistry.get("websocket.broadcast.coalesced").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void eventsAfterATypeChangeDoNotMergeIntoEarlierOnes() {
+        dispatcher.onBroadcast(new BroadcastMessage(TOPIC, "event", gameFinished(5L, 4)));
+        dispatcher.onBroadcast(new BroadcastMessage(TOPIC, "event", finished(6L)));
+        dispatcher.onBroadcast(new BroadcastMessage(TOPIC, "event", gameFinished(7L, 1)));
+
+        List<Object> sent = sentTo(TOPIC, 3);
+
+        assertThat(sent).extracting(event -> ((TournamentEvent) event).getType()).containsExactly(
+                TournamentEvent.Type.GAME_FINISHED,
+                TournamentEvent.Type.TOURNAMENT_FINISHED,
+                TournamentEvent.Type.GAME_FINISHED);
+        assertThat(sent).extracting(event -> ((TournamentEvent) event).getSequence()).containsExactly(5L, 6L, 7L);
+    }
+
+    @Test
+    void plainMessagesWithTheSameKeyAreStillCoalesced() {
+        dispatcher.onBroadcast(new BroadcastMessage("/topic/refresh", "refresh_required", "refresh_required"));
+        dispatcher.onBroadcast(new BroadcastMessage("/topic/refresh", "refresh_required", "refresh_required"));
+
+        assertThat(sentTo("/topic/refresh", 1)).containsExactly("refresh_required");
+    }
+
+    private List<Object> sentTo(String destination, int count) {
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, timeout(2000).times(count)).convertAndSend(eq(destination), payloads.capture());
+        // 구간이 끝난 뒤 더 보내지 않는지 확인
+        verify(messagingTemplate, after(500).times(count)).convertAndSend(anyString(), any(Object.class));
+        return payloads.getAllValues();
+    }
+
+    private TournamentEvent started(Long sequence) {
+        return TournamentEvent.builder()
+                .type(TournamentEvent.Type.TOURNAMENT_STARTED)
+                .sequence(sequence)
+                .tournamentId(1L)
+                .status("IN_PROGRESS")
+                .build();
+    }
+
+    private TournamentEvent gameFinished(Long sequence, int round) {
+        return TournamentEvent.builder()
+                .type(TournamentEvent.Type.GAME_FINISHED)
+                .sequence(sequence)
+                .tournamentId(1L)
+                .status("IN_PROGRESS")
+                .finishedGames(List.of(TournamentResponse.GameLogResponse.builder().round(round).build()))
+                .build();
+    }
+
+    private TournamentEvent finished(Long sequence) {
+        return TournamentEvent.builder()
+                .type(TournamentEvent.Type.TOURNAMENT_FINISHED)
+                .sequence(sequence)
+                .tournamentId(1L)
+                .status("FINISHED")
+                .build();
+    }
+}
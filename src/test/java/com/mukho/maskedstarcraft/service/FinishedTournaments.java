@@ -0,0 +1,73 @@
+package com.mukho.maskedstarcraft.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.mukho.maskedstarcraft.entity.GameLog;
+import com.mukho.maskedstarcraft.entity.Map;
+import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.entity.User;
+import com.mukho.maskedstarcraft.repository.GameLogRepository;
+import com.mukho.maskedstarcraft.repository.MapRepository;
+import com.mukho.maskedstarcraft.repository.TournamentRepository;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+/**
+ * 테스트용 종료된 대회를 DB에 직접 만든다 (첫 번째 플레이어가 모든 경기를 이기는 대회).
+ */
+class FinishedTournaments {
+
+    private final UserRepository userRepository;
+    private final MapRepository mapRepository;
+    private final TournamentRepository tournamentRepository;
+    private final GameLogRepository gameLogRepository;
+    private final TournamentSummaryBackfill tournamentSummaryBackfill;
+
+    FinishedTournaments(UserRepository userRepository, MapRepository mapRepository,
+                        TournamentRepository tournamentRepository, GameLogRepository gameLogRepository,
+                        TournamentSummaryBackfill tournamentSummaryBackfill) {
+        this.userRepository = userRepository;
+        this.mapRepository = mapRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.gameLogRepository = gameLogRepository;
+        this.tournamentSummaryBackfill = tournamentSummaryBackfill;
+    }
+
+    Long create(int games) {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+
+        List<User> players = new ArrayList<>();
+        for (int i = 0; i <= games; i++) {
+            players.add(userRepository.save(User.builder()
+                    .name("budget" + i)
+                    .nickname(prefix + "-" + i)
+                    .password("1234")
+                    .race("테란")
+                    .build()));
+        }
+        Map map = mapRepository.save(Map.builder().name(prefix + "-map").build());
+
+        User king = players.get(0);
+        Tournament tournament = tournamentRepository.save(Tournament.builder()
+                .status(Tournament.Status.FINISHED)
+                .winnerUser(king)
+                .maxStreakUser(king)
+                .build());
+
+        for (int round = 1; round <= games; round++) {
+            gameLogRepository.save(GameLog.builder()
+                    .tournament(tournament)
+                    .map(map)
+                    .player1(king)
+                    .player2(players.get(round))
+                    .winner(king)
+                    .round(round)
+                    .winnerStreak(round)
+                    .loserStreak(0)
+                    .build());
+        }
+        tournamentSummaryBackfill.backfill();
+        return tournament.getId();
+    }
+}
@@ -0,0 +1,126 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.mukho.maskedstarcraft.dto.response.CursorPageResponse;
+import com.mukho.maskedstarcraft.dto.response.TournamentLogSummaryResponse;
+import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.repository.GameLogRepository;
+import com.mukho.maskedstarcraft.repository.MapRepository;
+import com.mukho.maskedstarcraft.repository.TournamentRepository;
+import com.mukho.maskedstarcraft.repository.TournamentSummaryRepository;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LogServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MapRepository mapRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private GameLogRepository gameLogRepository;
+
+    @Autowired
+    private TournamentSummaryRepository tournamentSummaryRepository;
+
+    @Autowired
+    private TournamentSummaryBackfill tournamentSummaryBackfill;
+
+    @Autowired
+    private LogService logService;
+
+    @Test
+    void nextCursorContinuesWhereThePreviousPageEnded() {
+        FinishedTournaments finishedTournaments = new FinishedTournaments(userRepository, mapRepository,
+                tournamentRepository, gameLogRepository, tournamentSummaryBackfill);
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(finishedTournaments.create(1));
+        }
+        // 다른 테스트가 나중에 만든 대회보다 앞에서 시작하도록 가장 최근에 만든 대회 다음 id를 커서로
+        Long start = created.get(created.size() - 1) + 1;
+
+        CursorPageResponse<TournamentLogSummaryResponse> first = logService.getTournamentLogs(start, 2);
+        assertThat(ids(first)).containsExactly(created.get(4), created.get(3));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(created.get(3));
+
+        CursorPageResponse<TournamentLogSummaryResponse> second = logService.getTournamentLogs(first.getNextCursor(), 2);
+        assertThat(ids(second)).containsExactly(created.get(2), created.get(1));
+        assertThat(second.getNextCursor()).isEqualTo(created.get(1));
+
+        CursorPageResponse<TournamentLogSummaryResponse> third = logService.getTournamentLogs(second.getNextCursor(), 2);
+        assertThat(ids(third).get(0)).isEqualTo(created.get(0));
+        assertThat(third.getItems().get(0).getTotalGames()).isEqualTo(1);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        FinishedTournaments finishedTournaments = new FinishedTournaments(userRepository, mapRepository,
+                tournamentRepository, gameLogRepository, tournamentSummaryBackfill);
+        finishedTournaments.create(1);
+        finishedTournaments.create(1);
+
+        // 처음부터 끝까지 넘기면 모든 요약을 겹치지 않게 내림차순으로 한 번씩 받는다
+        List<Long> seen = new ArrayList<>();
+        Long cursor = null;
+        CursorPageResponse<TournamentLogSummaryResponse> page;
+        do {
+            page = logService.getTournamentLogs(cursor, 3);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(3);
+            seen.addAll(ids(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(seen).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(seen).hasSize((int) tournamentSummaryRepository.count());
+
+        // 마지막 대회보다 앞에서 시작하면 빈 페이지
+        CursorPageResponse<TournamentLogSummaryResponse> empty = logService.getTournamentLogs(seen.get(seen.size() - 1), 3);
+        assertThat(empty.getItems()).isEmpty();
+        assertThat(empty.getNextCursor()).isNull();
+    }
+
+    @Test
+    void pageSizeIsClampedToOneHundred() {
+        // 요약이 100건을 넘도록 경기 없이 끝난 대회를 채운다
+        long missing = 101 - tournamentSummaryRepository.count();
+        for (long i = 0; i < missing; i++) {
+            tournamentRepository.save(Tournament.builder().status(Tournament.Status.FINISHED).build());
+        }
+        tournamentSummaryBackfill.backfill();
+
+        CursorPageResponse<TournamentLogSummaryResponse> page = logService.getTournamentLogs(null, 1000);
+
+        assertThat(page.getItems()).hasSize(100);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(page.getItems().get(99).getTournamentId());
+
+        assertThat(logService.getTournamentLogs(null, null).getItems()).hasSize(20);
+        assertThat(logService.getTournamentLogs(null, 0).getItems()).hasSize(20);
+    }
+
+    private List<Long> ids(CursorPageResponse<TournamentLogSummaryResponse> page) {
+        return page.getItems().stream()
+                .map(TournamentLogSummaryResponse::getTournamentId)
+                .toList();
+    }
+}
@@ -0,0 +1,93 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.mukho.maskedstarcraft.entity.Map;
+
+class MapCatalogTest {
+
+    private static final int DRAWS = 200_000;
+
+    @Test
+    void weightedPicksConvergeToTheWeights() {
+        MapCatalog catalog = MapCatalog.of(List.of(map(1L, 1), map(2L, 2), map(3L, 3), map(4L, 10), map(5L, 4)));
+
+        double[] frequencies = frequencies(catalog, random -> catalog.pickWeighted(random), 42L);
+
+        double[] expected = {1 / 20.0, 2 / 20.0, 3 / 20.0, 10 / 20.0, 4 / 20.0};
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(frequencies[i]).as("맵 %d", i + 1).isCloseTo(expected[i], within(0.005));
+        }
+    }
+
+    @Test
+    void missingOrInvalidWeightCountsAsOne() {
+        MapCatalog catalog = MapCatalog.of(List.of(map(1L, null), map(2L, 0), map(3L, -5), map(4L, 3)));
+
+        double[] frequencies = frequencies(catalog, random -> catalog.pickWeighted(random), 7L);
+
+        assertThat(frequencies[0]).isCloseTo(1 / 6.0, within(0.005));
+        assertThat(frequencies[1]).isCloseTo(1 / 6.0, within(0.005));
+        assertThat(frequencies[2]).isCloseTo(1 / 6.0, within(0.005));
+        assertThat(frequencies[3]).isCloseTo(3 / 6.0, within(0.005));
+    }
+
+    @Test
+    void uniformPicksIgnoreWeights() {
+        MapCatalog catalog = MapCatalog.of(List.of(map(1L, 1), map(2L, 50), map(3L, 100)));
+
+        double[] frequencies = frequencies(catalog, random -> catalog.pickUniform(random), 42L);
+
+        for (double frequency : frequencies) {
+            assertThat(frequency).isCloseTo(1 / 3.0, within(0.005));
+        }
+    }
+
+    @Test
+    void sameSeedGivesTheSamePicks() {
+        MapCatalog catalog = MapCatalog.of(List.of(map(1L, 1), map(2L, 2), map(3L, 3)));
+        Random first = new Random(99L);
+        Random second = new Random(99L);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(catalog.pickWeighted(first)).isSameAs(catalog.pickWeighted(second));
+        }
+    }
+
+    @Test
+    void singleMapIsAlwaysPicked() {
+        Map only = map(1L, 7);
+        MapCatalog catalog = MapCatalog.of(List.of(only));
+        Random random = new Random(1L);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(catalog.pickWeighted(random)).isSameAs(only);
+            assertThat(catalog.pickUniform(random)).isSameAs(only);
+        }
+        assertThat(MapCatalog.of(List.of()).isEmpty()).isTrue();
+    }
+
+    private double[] frequencies(MapCatalog catalog, Function<Random, Map> pick, long seed) {
+        Random random = new Random(seed);
+        int[] counts = new int[catalog.size()];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[catalog.getMaps().indexOf(pick.apply(random))]++;
+        }
+        double[] frequencies = new double[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            frequencies[i] = (double) counts[i] / DRAWS;
+        }
+        return frequencies;
+    }
+
+    static Map map(Long id, Integer weight) {
+        return Map.builder().id(id).name("map" + id).weight(weight).build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.mukho.maskedstarcraft.entity.Map;
+import com.mukho.maskedstarcraft.entity.Tournament;
+
+class MapSelectionReplayTest {
+
+    private static final int ROUNDS = 30;
+
+    private final MapCatalog catalog = MapCatalog.of(LongStream.rangeClosed(1, 5)
+            .mapToObj(id -> Map.builder().id(id).name("map" + id).weight((int) id).build())
+            .toList());
+    private final TournamentState state = new TournamentState(1L, "replay", LocalDateTime.now(), 42L,
+            Tournament.Status.IN_PROGRESS, List.of());
+
+    @Test
+    void uniformPicksContinueAfterRestart() {
+        assertReplayContinues(new UniformMapSelectionPolicy());
+    }
+
+    @Test
+    void weightedPicksContinueAfterRestart() {
+        assertReplayContinues(new WeightedMapSelectionPolicy());
+    }
+
+    @Test
+    void shuffledBagPicksContinueAfterRestart() {
+        assertReplayContinues(new ShuffledBagMapSelectionPolicy());
+    }
+
+    private void assertReplayContinues(MapSelectionPolicy policy) {
+        List<Long> uninterrupted = new ArrayList<>();
+        MapSelectionPolicy.Selector selector = policy.newSelector();
+        for (int round = 1; round <= ROUNDS; round++) {
+            uninterrupted.add(selector.next(catalog, random(round)).getId());
+        }
+
+        // 재시작 지점마다 이미 진행된 경기를 재생한 뒤 이어서 고른 맵이 같아야 한다
+        for (int restartAfter = 1; restartAfter < ROUNDS; restartAfter++) {
+            MapSelectionPolicy.Selector restarted = policy.newSelector();
+            List<Long> resumed = new ArrayList<>(uninterrupted.subList(0, restartAfter));
+            for (int round = 1; round <= restartAfter; round++) {
+                restarted.replay(catalog.getMaps().get((int) (uninterrupted.get(round - 1) - 1)), catalog,
+                        random(round));
+            }
+            for (int round = restartAfter + 1; round <= ROUNDS; round++) {
+                resumed.add(restarted.next(catalog, random(round)).getId());
+            }
+            assertThat(resumed).as("%d라운드 후 재시작", restartAfter).isEqualTo(uninterrupted);
+        }
+    }
+
+    private Random random(int round) {
+        // 시드가 있으므로 fallback은 쓰이지 않는다
+        return state.mapRandom(round, null);
+    }
+}
@@ -0,0 +1,159 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.mukho.maskedstarcraft.dto.response.MapStatsResponse;
+import com.mukho.maskedstarcraft.entity.GameLog;
+import com.mukho.maskedstarcraft.entity.Map;
+import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.entity.User;
+import com.mukho.maskedstarcraft.repository.GameLogRepository;
+import com.mukho.maskedstarcraft.repository.MapRepository;
+import com.mukho.maskedstarcraft.repository.TournamentRepository;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MapStatsServiceTest {
+
+    private static final String TERRAN = "테란";
+    private static final String ZERG = "저그";
+    private static final String PROTOSS = "프로토스";
+
+    // (승자 종족, 패자 종족, 승자가 player1인지)
+    private static final List<Result> RESULTS = List.of(
+            new Result(TERRAN, TERRAN, true),
+            new Result(TERRAN, TERRAN, false),
+            new Result(TERRAN, ZERG, true),
+            new Result(TERRAN, ZERG, false),
+            new Result(ZERG, TERRAN, true),
+            new Result(PROTOSS, TERRAN, false),
+            new Result(ZERG, ZERG, true),
+            new Result(ZERG, PROTOSS, true),
+            new Result(ZERG, PROTOSS, false),
+            new Result(ZERG, PROTOSS, true),
+            new Result(PROTOSS, ZERG, true),
+            new Result(PROTOSS, PROTOSS, true),
+            new Result(PROTOSS, PROTOSS, false));
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MapRepository mapRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private GameLogRepository gameLogRepository;
+
+    @Autowired
+    private MapStatsService mapStatsService;
+
+    @Test
+    void recordedGamesAreCountedPerRacePairing() {
+        String prefix = prefix();
+        Map map = mapRepository.save(Map.builder().name(prefix + "-map").build());
+        Map otherMap = mapRepository.save(Map.builder().name(prefix + "-other").build());
+
+        int round = 1;
+        for (Result result : RESULTS) {
+            User winner = player(prefix, result.winnerRace());
+            User loser = player(prefix, result.loserRace());
+            mapStatsService.recordGame(new TournamentState.CompletedGame(null, round++, winner, loser, map, 1, 0,
+                    LocalDateTime.now()));
+        }
+        // 다른 맵과 알 수 없는 종족의 경기는 이 맵 집계에 들어가지 않는다
+        mapStatsService.recordGame(new TournamentState.CompletedGame(null, round++, player(prefix, TERRAN),
+                player(prefix, ZERG), otherMap, 1, 0, LocalDateTime.now()));
+        mapStatsService.recordGame(new TournamentState.CompletedGame(null, round, player(prefix, "랜덤"),
+                player(prefix, ZERG), map, 1, 0, LocalDateTime.now()));
+
+        assertExpectedMatchups(mapStatsService.getMapStats(map.getId()));
+        assertThat(mapStatsService.getMapStats(otherMap.getId()).getTotalGames()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildCountsTheSamePairingsFromGameLogs() {
+        String prefix = prefix();
+        Map map = mapRepository.save(Map.builder().name(prefix + "-map").build());
+        Tournament tournament = tournamentRepository.save(Tournament.builder()
+                .status(Tournament.Status.IN_PROGRESS)
+                .build());
+
+        int round = 1;
+        for (Result result : RESULTS) {
+            User winner = player(prefix, result.winnerRace());
+            User loser = player(prefix, result.loserRace());
+            gameLogRepository.save(GameLog.builder()
+                    .tournament(tournament)
+                    .map(map)
+                    .player1(result.winnerFirst() ? winner : loser)
+                    .player2(result.winnerFirst() ? loser : winner)
+                    .winner(winner)
+                    .round(round++)
+                    .winnerStreak(1)
+                    .loserStreak(0)
+                    .build());
+        }
+        // 결과가 없는 경기는 세지 않는다
+        gameLogRepository.save(GameLog.builder()
+                .tournament(tournament)
+                .map(map)
+                .player1(player(prefix, TERRAN))
+                .player2(player(prefix, ZERG))
+                .round(round)
+                .build());
+        tournament.setStatus(Tournament.Status.FINISHED);
+        tournamentRepository.save(tournament);
+
+        mapStatsService.rebuild();
+
+        assertExpectedMatchups(mapStatsService.getMapStats(map.getId()));
+    }
+
+    private void assertExpectedMatchups(MapStatsResponse stats) {
+        assertThat(stats.getTotalGames()).isEqualTo(RESULTS.size());
+        assertThat(stats.getMatchups())
+                .extracting(MapStatsResponse.MatchupStats::getRace, MapStatsResponse.MatchupStats::getOpponentRace,
+                        MapStatsResponse.MatchupStats::getGames, MapStatsResponse.MatchupStats::getWins,
+                        MapStatsResponse.MatchupStats::getLosses, MapStatsResponse.MatchupStats::getWinRate)
+                .containsExactly(
+                        // 동족전은 경기마다 한 명이 이기고 한 명이 지므로 승 = 패 = 경기 수, 승률 50%
+                        tuple(TERRAN, TERRAN, 2, 2, 2, 0.5),
+                        tuple(TERRAN, ZERG, 3, 2, 1, 2.0 / 3),
+                        tuple(TERRAN, PROTOSS, 1, 0, 1, 0.0),
+                        tuple(ZERG, ZERG, 1, 1, 1, 0.5),
+                        tuple(ZERG, PROTOSS, 4, 3, 1, 0.75),
+                        tuple(PROTOSS, PROTOSS, 2, 2, 2, 0.5));
+    }
+
+    // 다른 테스트가 시작하는 대회의 참가자 명단에 들어가지 않도록 삭제된 플레이어로 만든다
+    private User player(String prefix, String race) {
+        return userRepository.save(User.builder()
+                .name("map-stats")
+                .nickname(prefix + "-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("1234")
+                .race(race)
+                .isDeleted(true)
+                .build());
+    }
+
+    private String prefix() {
+        return "stats-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private record Result(String winnerRace, String loserRace, boolean winnerFirst) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+class NicknameIndexTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final NicknameIndex nicknameIndex = new NicknameIndex(userRepository);
+
+    @Test
+    void matchingIgnoresCase() {
+        when(userRepository.findAllNicknames()).thenReturn(List.of("Alpha", "beta", "테란왕"));
+        nicknameIndex.rebuild();
+
+        assertThat(nicknameIndex.isTaken("alpha")).isTrue();
+        assertThat(nicknameIndex.isTaken("ALPHA")).isTrue();
+        assertThat(nicknameIndex.isTaken("Beta")).isTrue();
+        assertThat(nicknameIndex.isTaken("테란왕")).isTrue();
+        assertThat(nicknameIndex.isTaken("gamma")).isFalse();
+
+        nicknameIndex.register("Gamma");
+        assertThat(nicknameIndex.isTaken("gAMMA")).isTrue();
+        // 색인이 만들어진 뒤에는 DB를 조회하지 않는다
+        verify(userRepository, never()).existsByNickname(anyString());
+    }
+
+    @Test
+    void registeredNicknamesAreNeverMissedWhileTheFilterGrows() {
+        when(userRepository.findAllNicknames()).thenReturn(List.of());
+        nicknameIndex.rebuild();
+
+        // 최소 정원(1024)을 여러 번 넘겨 필터를 다시 만드는 동안에도 거짓 음성이 없어야 한다
+        List<String> registered = IntStream.range(0, 5_000).mapToObj(i -> "player-" + i).toList();
+        for (String nickname : registered) {
+            nicknameIndex.register(nickname);
+            assertThat(nicknameIndex.isTaken(nickname)).isTrue();
+        }
+        assertThat(registered).allMatch(nicknameIndex::isTaken);
+        assertThat(IntStream.range(0, 5_000).mapToObj(i -> "other-" + i)).noneMatch(nicknameIndex::isTaken);
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndFewFalsePositives() {
+        NicknameIndex.BloomFilter filter = new NicknameIndex.BloomFilter(10_000);
+        Set<String> members = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            String key = "member-" + i;
+            members.add(key);
+            filter.put(key);
+        }
+
+        assertThat(members).allMatch(filter::mightContain);
+        long falsePositives = IntStream.range(0, 100_000)
+                .mapToObj(i -> "outsider-" + i)
+                .filter(filter::mightContain)
+                .count();
+        // 정원까지 채웠을 때 설계상 약 1%
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void beforeRebuildTheDatabaseIsAsked() {
+        when(userRepository.existsByNickname("late")).thenReturn(true);
+
+        assertThat(nicknameIndex.isTaken("late")).isTrue();
+        assertThat(nicknameIndex.isTaken("other")).isFalse();
+    }
+}
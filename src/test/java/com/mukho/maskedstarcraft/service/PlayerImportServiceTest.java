@@ -0,0 +1,149 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.mukho.maskedstarcraft.dto.response.PlayerImportResponse;
+import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.entity.User;
+import com.mukho.maskedstarcraft.repository.TournamentRepository;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PlayerImportServiceTest {
+
+    @Autowired
+    private PlayerImportService playerImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    private final String prefix = "csv-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Test
+    void headerRowMapsColumnsByName() {
+        String csv = "﻿race,Nickname,name,password\r\n"
+                + "저그," + prefix + "-a,홍길동,1234\r\n"
+                + "\r\n"
+                + "프로토스," + prefix + "-b,김철수,5678\r\n";
+
+        PlayerImportResponse response = playerImportService.importCsv(csv);
+
+        assertThat(response.getTotal()).isEqualTo(2);
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getErrors()).isEmpty();
+        User imported = userRepository.findByNicknameAndIsDeletedFalse(prefix + "-a").orElseThrow();
+        assertThat(imported.getName()).isEqualTo("홍길동");
+        assertThat(imported.getRace()).isEqualTo("저그");
+        assertThat(imported.getPassword()).isEqualTo("1234");
+        assertThat(imported.getRole()).isEqualTo(User.Role.PLAYER);
+    }
+
+    @Test
+    void withoutHeaderColumnsArePositional() {
+        String csv = "홍길동," + prefix + "-a,1234,테란\n";
+
+        PlayerImportResponse response = playerImportService.importCsv(csv);
+
+        assertThat(response.getImported()).isEqualTo(1);
+        User imported = userRepository.findByNicknameAndIsDeletedFalse(prefix + "-a").orElseThrow();
+        assertThat(imported.getName()).isEqualTo("홍길동");
+        assertThat(imported.getRace()).isEqualTo("테란");
+    }
+
+    @Test
+    void quotedFieldsMayContainCommasAndQuotes() {
+        String csv = "name,nickname,password,race\n"
+                + "\"Kim, Jr.\",\"" + prefix + "-a\",1234,저그\n"
+                + "\"say \"\"hi\"\"\", " + prefix + "-b ,\"5678\",테란\n";
+
+        PlayerImportResponse response = playerImportService.importCsv(csv);
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(userRepository.findByNicknameAndIsDeletedFalse(prefix + "-a").orElseThrow().getName())
+                .isEqualTo("Kim, Jr.");
+        // 따옴표 밖의 앞뒤 공백은 잘라낸다
+        assertThat(userRepository.findByNicknameAndIsDeletedFalse(prefix + "-b").orElseThrow().getName())
+                .isEqualTo("say \"hi\"");
+    }
+
+    @Test
+    void invalidRowsAreReportedAndTheRestImported() {
+        userRepository.save(User.builder()
+                .name("기존")
+                .nickname(prefix + "-taken")
+                .password("1234")
+                .race("테란")
+                .build());
+        String csv = "name,nickname,password,race\n"
+                + "가," + prefix + "-a,1234,저그\n"
+                + "나," + prefix + "-b,1234,랜덤\n"
+                + "다," + prefix.toUpperCase() + "-A,1234,테란\n"
+                + "라," + prefix + "-taken,1234,프로토스\n"
+                + "마," + prefix + "-c,12,테란\n"
+                + "바," + prefix + "-d,1234,프로토스\n";
+
+        PlayerImportResponse response = playerImportService.importCsv(csv);
+
+        assertThat(response.getTotal()).isEqualTo(6);
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(4);
+        // 행 번호는 헤더를 포함한 파일의 줄 번호, 파일 안의 닉네임 중복은 대소문자를 구분하지 않는다
+        // (기존 닉네임과의 대소문자 무시 비교는 DB 정렬 규칙에 맡기므로 H2에서는 같은 표기로 확인)
+        assertThat(response.getErrors())
+                .extracting(PlayerImportResponse.RowError::getRow, PlayerImportResponse.RowError::getNickname,
+                        PlayerImportResponse.RowError::getMessage)
+                .containsExactly(
+                        tuple(3, prefix + "-b", "종족은 프로토스, 테란, 저그 중 하나여야 합니다"),
+                        tuple(4, prefix.toUpperCase() + "-A", "이미 존재하는 닉네임입니다: " + prefix.toUpperCase() + "-A"),
+                        tuple(5, prefix + "-taken", "이미 존재하는 닉네임입니다: " + prefix + "-taken"),
+                        tuple(6, prefix + "-c", "비밀번호는 4자리 숫자여야 합니다"));
+        assertThat(userRepository.findByNicknameAndIsDeletedFalse(prefix + "-a")).isPresent();
+        assertThat(userRepository.findByNicknameAndIsDeletedFalse(prefix + "-d")).isPresent();
+        assertThat(userRepository.findByNicknameAndIsDeletedFalse(prefix + "-b")).isEmpty();
+    }
+
+    @Test
+    void importIsLimitedToTwoThousandRows() {
+        StringBuilder atLimit = new StringBuilder("name,nickname,password,race\n");
+        for (int i = 0; i < 2000; i++) {
+            // 행 수 제한만 확인하도록 모두 형식 오류인 행
+            atLimit.append("이름,").append(prefix).append('-').append(i).append(",1234,랜덤\n");
+        }
+        PlayerImportResponse response = playerImportService.importCsv(atLimit.toString());
+        assertThat(response.getTotal()).isEqualTo(2000);
+        assertThat(response.getFailed()).isEqualTo(2000);
+
+        String overLimit = atLimit + "이름," + prefix + "-over,1234,테란\n";
+        assertThatThrownBy(() -> playerImportService.importCsv(overLimit))
+                .isInstanceOf(PlayerImportService.ImportTooLargeException.class);
+        assertThat(userRepository.findByNicknameAndIsDeletedFalse(prefix + "-over")).isEmpty();
+    }
+
+    @Test
+    void importIsRejectedWhileATournamentIsInProgress() {
+        Tournament tournament = tournamentRepository.save(Tournament.builder()
+                .status(Tournament.Status.IN_PROGRESS)
+                .build());
+        try {
+            assertThatThrownBy(() -> playerImportService.importCsv("홍길동," + prefix + "-a,1234,테란\n"))
+                    .isInstanceOf(AuthService.TournamentInProgressException.class);
+            assertThat(userRepository.findByNicknameAndIsDeletedFalse(prefix + "-a")).isEmpty();
+        } finally {
+            tournament.setStatus(Tournament.Status.FINISHED);
+            tournamentRepository.save(tournament);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.mukho.maskedstarcraft.dto.response.PlayerResponse;
+import com.mukho.maskedstarcraft.dto.response.PlayerStatsResponse;
+
+class PlayerLeaderboardTest {
+
+    private final PlayerLeaderboard leaderboard = new PlayerLeaderboard();
+
+    @Test
+    void playersAreRankedByWinsThenTieBreaks() {
+        leaderboard.reset(List.of(
+                stats(1L, 5, 3, 2, 0),
+                stats(2L, 9, 1, 1, 0),
+                // 승수가 같으면 우승 횟수
+                stats(3L, 5, 3, 2, 1),
+                // 우승 횟수도 같으면 최다 연승
+                stats(4L, 5, 3, 4, 0),
+                // 최다 연승까지 같으면 패수가 적은 쪽
+                stats(5L, 5, 1, 2, 0),
+                // 모두 같으면 먼저 가입한(id가 작은) 플레이어
+                stats(6L, 5, 3, 2, 0)));
+
+        assertThat(ids(leaderboard.top(10))).containsExactly(2L, 3L, 4L, 5L, 1L, 6L);
+        assertThat(ids(leaderboard.top(3))).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void putReplacesThePreviousRecordOfThePlayer() {
+        leaderboard.put(stats(1L, 3, 0, 3, 0));
+        leaderboard.put(stats(2L, 2, 0, 2, 0));
+
+        leaderboard.put(stats(2L, 4, 1, 3, 0));
+
+        assertThat(ids(leaderboard.top(10))).containsExactly(2L, 1L);
+        assertThat(leaderboard.get(2L)).get().extracting(PlayerStatsResponse::getWins).isEqualTo(4);
+    }
+
+    @Test
+    void removedPlayersLeaveTheRanking() {
+        leaderboard.reset(List.of(stats(1L, 3, 0, 3, 0), stats(2L, 2, 0, 2, 0), stats(3L, 1, 0, 1, 0)));
+
+        leaderboard.remove(2L);
+        leaderboard.remove(99L);
+
+        assertThat(ids(leaderboard.top(10))).containsExactly(1L, 3L);
+        assertThat(leaderboard.get(2L)).isEmpty();
+
+        leaderboard.clear();
+        assertThat(leaderboard.top(10)).isEmpty();
+        assertThat(leaderboard.get(1L)).isEmpty();
+    }
+
+    private PlayerStatsResponse stats(Long playerId, int wins, int losses, int longestStreak, int titles) {
+        return PlayerStatsResponse.builder()
+                .player(PlayerResponse.builder().id(playerId).nickname("player" + playerId).build())
+                .wins(wins)
+                .losses(losses)
+                .longestStreak(longestStreak)
+                .titles(titles)
+                .build();
+    }
+
+    private List<Long> ids(List<PlayerStatsResponse> ranking) {
+        return ranking.stream().map(stats -> stats.getPlayer().getId()).toList();
+    }
+}
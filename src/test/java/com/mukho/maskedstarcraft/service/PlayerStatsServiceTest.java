@@ -0,0 +1,97 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.mukho.maskedstarcraft.config.SqlStatementBudgets;
+import com.mukho.maskedstarcraft.dto.response.PlayerStatsResponse;
+import com.mukho.maskedstarcraft.entity.User;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PlayerStatsServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlayerStatsService playerStatsService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerLeaderboard playerLeaderboard;
+
+    @Test
+    void recordingResultsOnlyUpsertsAndKeepsTheLeaderboardInStep() throws Exception {
+        User winner = player("테란");
+        User loser = player("저그");
+
+        // 조회 없이 플레이어별 upsert 한 문씩
+        int statements = SqlStatementBudgets.countStatements(() -> playerStatsService.recordGame(game(winner, loser, 3)));
+        assertThat(statements).isEqualTo(2);
+
+        playerStatsService.recordGame(game(loser, winner, 1));
+        playerStatsService.recordGame(game(winner, loser, 1));
+        playerStatsService.recordTitle(winner);
+
+        PlayerStatsResponse winnerStats = playerStatsService.getStats(winner.getId());
+        assertThat(winnerStats.getWins()).isEqualTo(2);
+        assertThat(winnerStats.getLosses()).isEqualTo(1);
+        assertThat(winnerStats.getLongestStreak()).isEqualTo(3);
+        assertThat(winnerStats.getTitles()).isEqualTo(1);
+        assertThat(winnerStats.getRaceRecords().get("저그")).isEqualTo(new PlayerStatsResponse.RaceRecord(2, 1));
+        PlayerStatsResponse loserStats = playerStatsService.getStats(loser.getId());
+        assertThat(loserStats.getRaceRecords().get("테란")).isEqualTo(new PlayerStatsResponse.RaceRecord(1, 2));
+
+        // DB에서 다시 불러와도 메모리에 누적한 기록과 같다
+        playerStatsService.loadLeaderboard();
+        assertThat(playerStatsService.getStats(winner.getId())).isEqualTo(winnerStats);
+        assertThat(playerStatsService.getStats(loser.getId())).isEqualTo(loserStats);
+
+        playerService.deletePlayer(winner.getId());
+        playerService.deletePlayer(loser.getId());
+    }
+
+    @Test
+    void deletedPlayerLeavesTheLeaderboard() {
+        User champion = player("저그");
+        playerStatsService.recordTitle(champion);
+        assertThat(playerStatsService.getStats(champion.getId()).getTitles()).isEqualTo(1);
+
+        playerService.deletePlayer(champion.getId());
+
+        assertThat(playerLeaderboard.get(champion.getId())).isEmpty();
+        assertThat(playerStatsService.getLeaderboard(100))
+                .noneMatch(stats -> stats.getPlayer().getId().equals(champion.getId()));
+        assertThatThrownBy(() -> playerStatsService.getStats(champion.getId()))
+                .isInstanceOf(PlayerStatsService.PlayerNotFoundException.class);
+
+        // 다시 불러와도 삭제된 플레이어는 순위에 오르지 않는다
+        playerStatsService.loadLeaderboard();
+        assertThat(playerLeaderboard.get(champion.getId())).isEmpty();
+    }
+
+    private User player(String race) {
+        return userRepository.save(User.builder()
+                .name("stats")
+                .nickname("stats-" + UUID.randomUUID().toString().substring(0, 8))
+                .password("1234")
+                .race(race)
+                .build());
+    }
+
+    private TournamentState.CompletedGame game(User winner, User loser, int streak) {
+        return new TournamentState.CompletedGame(null, 1, winner, loser, null, streak, 0, LocalDateTime.now());
+    }
+}
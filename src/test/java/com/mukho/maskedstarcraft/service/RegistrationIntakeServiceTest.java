@@ -0,0 +1,157 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mukho.maskedstarcraft.controller.AuthController;
+import com.mukho.maskedstarcraft.dto.request.ApplyRequest;
+import com.mukho.maskedstarcraft.dto.response.RegistrationTicketResponse;
+import com.mukho.maskedstarcraft.exception.GlobalExceptionHandler;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+import jakarta.validation.Validator;
+
+/**
+ * 대기열을 직접 만들어 전용 스레드 없이 drainBatch()로 처리 시점을 정한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RegistrationIntakeServiceTest {
+
+    private static final int QUEUE_CAPACITY = 2;
+
+    @Autowired
+    private PlayerImportService playerImportService;
+
+    @Autowired
+    private NicknameIndex nicknameIndex;
+
+    @Autowired
+    private TournamentStateEngine tournamentStateEngine;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private RegistrationIntakeService intake;
+    private MockMvc mockMvc;
+    private final String prefix = "intake-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @BeforeEach
+    void setUp() {
+        intake = new RegistrationIntakeService(playerImportService, nicknameIndex, tournamentStateEngine, validator,
+                true, QUEUE_CAPACITY, 100, 100);
+        mockMvc = MockMvcBuilders.standaloneSetup(new AuthController(authService, intake))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        intake.shutdown();
+    }
+
+    @Test
+    void fullQueueAnswers429WithRetryAfter() throws Exception {
+        apply(prefix + "-a").andExpect(status().isAccepted())
+                .andExpect(header().exists(HttpHeaders.LOCATION))
+                .andExpect(jsonPath("$.data.status").value("QUEUED"));
+        apply(prefix + "-b").andExpect(status().isAccepted());
+
+        apply(prefix + "-c").andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.success").value(false));
+
+        // 거절된 신청은 대기열에 남지 않으므로 비운 뒤 같은 닉네임으로 다시 신청할 수 있다
+        assertThat(intake.drainBatch()).isEqualTo(2);
+        apply(prefix + "-c").andExpect(status().isAccepted());
+        assertThat(intake.drainBatch()).isEqualTo(1);
+        assertThat(userRepository.existsByNickname(prefix + "-c")).isTrue();
+    }
+
+    @Test
+    void ticketMovesFromQueuedToRegistered() {
+        RegistrationTicketResponse ticket = intake.submit(request(prefix + "-a"));
+
+        RegistrationTicketResponse queued = intake.getTicket(ticket.getTicketId());
+        assertThat(queued.getStatus()).isEqualTo("QUEUED");
+        assertThat(queued.getCompletedAt()).isNull();
+        assertThat(userRepository.existsByNickname(prefix + "-a")).isFalse();
+        // 대기 중인 닉네임은 다시 접수하지 않는다
+        assertThatThrownBy(() -> intake.submit(request(prefix.toUpperCase() + "-A")))
+                .isInstanceOf(AuthService.UserAlreadyExistsException.class);
+
+        assertThat(intake.drainBatch()).isEqualTo(1);
+
+        RegistrationTicketResponse registered = intake.getTicket(ticket.getTicketId());
+        assertThat(registered.getStatus()).isEqualTo("REGISTERED");
+        assertThat(registered.getMessage()).isNull();
+        assertThat(registered.getCompletedAt()).isNotNull();
+        assertThat(userRepository.existsByNickname(prefix + "-a")).isTrue();
+        assertThat(nicknameIndex.isTaken(prefix + "-a")).isTrue();
+        assertThat(intake.drainBatch()).isZero();
+    }
+
+    @Test
+    void ticketIsRejectedWhenTheNicknameIsTakenBeforeDrain() {
+        RegistrationTicketResponse lost = intake.submit(request(prefix + "-a"));
+        RegistrationTicketResponse won = intake.submit(request(prefix + "-b"));
+        // 접수 이후 같은 닉네임으로 동기 신청이 먼저 저장됨
+        authService.apply(request(prefix + "-a"));
+
+        assertThat(intake.drainBatch()).isEqualTo(2);
+
+        RegistrationTicketResponse rejected = intake.getTicket(lost.getTicketId());
+        assertThat(rejected.getStatus()).isEqualTo("REJECTED");
+        assertThat(rejected.getMessage()).isEqualTo("이미 존재하는 닉네임입니다: " + prefix + "-a");
+        assertThat(intake.getTicket(won.getTicketId()).getStatus()).isEqualTo("REGISTERED");
+    }
+
+    @Test
+    void unknownTicketIsNotFound() {
+        assertThatThrownBy(() -> intake.getTicket("missing"))
+                .isInstanceOf(RegistrationIntakeService.TicketNotFoundException.class);
+    }
+
+    private ResultActions apply(String nickname) throws Exception {
+        return mockMvc.perform(post("/api/v1/auth/apply")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request(nickname))));
+    }
+
+    private ApplyRequest request(String nickname) {
+        ApplyRequest request = new ApplyRequest();
+        request.setName("접수자");
+        request.setNickname(nickname);
+        request.setPassword("1234");
+        request.setRace("테란");
+        return request;
+    }
+}
@@ -0,0 +1,80 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.mukho.maskedstarcraft.entity.Map;
+
+class ShuffledBagMapSelectionPolicyTest {
+
+    private final MapSelectionPolicy policy = new ShuffledBagMapSelectionPolicy();
+
+    @Test
+    void noMapRepeatsUntilTheBagIsEmpty() {
+        MapCatalog catalog = catalog(7);
+        MapSelectionPolicy.Selector selector = policy.newSelector();
+        Random random = new Random(42L);
+
+        List<Long> picks = new ArrayList<>();
+        for (int i = 0; i < catalog.size() * 20; i++) {
+            picks.add(selector.next(catalog, random).getId());
+        }
+
+        // 주머니 하나(맵 수만큼)마다 모든 맵이 정확히 한 번씩
+        List<Long> allIds = catalog.getMaps().stream().map(Map::getId).toList();
+        for (int start = 0; start < picks.size(); start += catalog.size()) {
+            assertThat(picks.subList(start, start + catalog.size())).containsExactlyInAnyOrderElementsOf(allIds);
+        }
+        // 섞이므로 주머니마다 순서가 같지는 않다
+        assertThat(picks.subList(0, catalog.size())).isNotEqualTo(picks.subList(catalog.size(), catalog.size() * 2));
+    }
+
+    @Test
+    void sameSeedGivesTheSameOrder() {
+        MapCatalog catalog = catalog(5);
+        MapSelectionPolicy.Selector first = policy.newSelector();
+        MapSelectionPolicy.Selector second = policy.newSelector();
+        Random firstRandom = new Random(7L);
+        Random secondRandom = new Random(7L);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(first.next(catalog, firstRandom).getId()).isEqualTo(second.next(catalog, secondRandom).getId());
+        }
+    }
+
+    @Test
+    void mapsDeletedAfterRefillAreSkipped() {
+        MapCatalog catalog = catalog(5);
+        MapSelectionPolicy.Selector selector = policy.newSelector();
+        Random random = new Random(3L);
+        List<Long> picked = new ArrayList<>();
+        picked.add(selector.next(catalog, random).getId());
+
+        // 주머니를 채운 뒤 맵 하나가 삭제됨
+        Long deletedId = catalog.getMaps().stream()
+                .map(Map::getId)
+                .filter(id -> !picked.contains(id))
+                .findFirst()
+                .orElseThrow();
+        MapCatalog shrunk = MapCatalog.of(catalog.getMaps().stream()
+                .filter(map -> !map.getId().equals(deletedId))
+                .toList());
+        for (int i = 0; i < 3; i++) {
+            picked.add(selector.next(shrunk, random).getId());
+        }
+
+        assertThat(picked).doesNotContain(deletedId).doesNotHaveDuplicates();
+    }
+
+    private MapCatalog catalog(int size) {
+        return MapCatalog.of(LongStream.rangeClosed(1, size)
+                .mapToObj(id -> MapCatalogTest.map(id, 1))
+                .toList());
+    }
+}
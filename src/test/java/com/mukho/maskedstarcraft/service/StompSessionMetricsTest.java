@@ -0,0 +1,93 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StompSessionMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StompSessionMetrics metrics = new StompSessionMetrics(meterRegistry);
+
+    @Test
+    void topicGaugeIsRemovedWhenTheLastSubscriptionEnds() {
+        connect("s1");
+        connect("s2");
+        metrics.onSubscribe(new SessionSubscribeEvent(this, subscribe("s1", "sub-0", "/topic/tournaments/1")));
+        metrics.onSubscribe(new SessionSubscribeEvent(this, subscribe("s2", "sub-0", "/topic/tournaments/1")));
+        assertThat(subscriptions("/topic/tournaments/1")).isEqualTo(2.0);
+
+        metrics.onUnsubscribe(new SessionUnsubscribeEvent(this, message(StompCommand.UNSUBSCRIBE, "s1", "sub-0", null)));
+        assertThat(subscriptions("/topic/tournaments/1")).isEqualTo(1.0);
+
+        metrics.onDisconnect(new SessionDisconnectEvent(this, message(StompCommand.DISCONNECT, "s2", null, null),
+                "s2", CloseStatus.NORMAL));
+        assertThat(gauge("/topic/tournaments/1")).isNull();
+        assertThat(meterRegistry.get("websocket.stomp.sessions").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void finishedTournamentTopicsDoNotCrowdOutNewOnes() {
+        connect("s1");
+        // 대회가 하나씩 끝나며 토픽이 바뀌어도 살아 있는 토픽만 게이지로 남는다
+        for (int tournament = 1; tournament <= 100; tournament++) {
+            String topic = "/topic/tournaments/" + tournament;
+            metrics.onSubscribe(new SessionSubscribeEvent(this, subscribe("s1", "sub-" + tournament, topic)));
+            assertThat(subscriptions(topic)).isEqualTo(1.0);
+            metrics.onUnsubscribe(new SessionUnsubscribeEvent(this,
+                    message(StompCommand.UNSUBSCRIBE, "s1", "sub-" + tournament, null)));
+        }
+
+        assertThat(meterRegistry.find("websocket.stomp.subscriptions").gauges()).isEmpty();
+    }
+
+    @Test
+    void unknownDestinationsShareTheOtherTag() {
+        connect("s1");
+        metrics.onSubscribe(new SessionSubscribeEvent(this, subscribe("s1", "sub-0", "/topic/anything")));
+        metrics.onSubscribe(new SessionSubscribeEvent(this, subscribe("s1", "sub-1", "/queue/whatever")));
+
+        assertThat(subscriptions("other")).isEqualTo(2.0);
+        assertThat(gauge("/topic/anything")).isNull();
+    }
+
+    private void connect(String sessionId) {
+        metrics.onConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, sessionId, null, null)));
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        return message(StompCommand.SUBSCRIBE, sessionId, subscriptionId, destination);
+    }
+
+    private Message<byte[]> message(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private double subscriptions(String topic) {
+        return meterRegistry.get("websocket.stomp.subscriptions").tag("topic", topic).gauge().value();
+    }
+
+    private Gauge gauge(String topic) {
+        return meterRegistry.find("websocket.stomp.subscriptions").tag("topic", topic).gauge();
+    }
+}
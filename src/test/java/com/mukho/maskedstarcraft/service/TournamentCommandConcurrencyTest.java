@@ -0,0 +1,266 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.mukho.maskedstarcraft.controller.TournamentController;
+import com.mukho.maskedstarcraft.dto.request.GameResultRequest;
+import com.mukho.maskedstarcraft.dto.request.MapCreateRequest;
+import com.mukho.maskedstarcraft.dto.request.TournamentStartRequest;
+import com.mukho.maskedstarcraft.dto.response.TournamentResponse;
+import com.mukho.maskedstarcraft.entity.GameLog;
+import com.mukho.maskedstarcraft.entity.Tournament;
+import com.mukho.maskedstarcraft.entity.User;
+import com.mukho.maskedstarcraft.exception.BusinessException;
+import com.mukho.maskedstarcraft.exception.GlobalExceptionHandler;
+import com.mukho.maskedstarcraft.repository.GameLogRepository;
+import com.mukho.maskedstarcraft.repository.TournamentRepository;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TournamentCommandConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MapService mapService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private GameLogRepository gameLogRepository;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private TournamentCommandService tournamentCommandService;
+
+    private ExecutorService executor;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+        mockMvc = MockMvcBuilders.standaloneSetup(new TournamentController(tournamentService, tournamentCommandService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void parallelSubmissionsRecordEachRoundExactlyOnce() throws Exception {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < 6; i++) {
+            userRepository.save(User.builder()
+                    .name("stress" + i)
+                    .nickname(prefix + "-" + i)
+                    .password("1234")
+                    .race("저그")
+                    .build());
+        }
+        MapCreateRequest mapRequest = new MapCreateRequest();
+        mapRequest.setName(prefix + "-map");
+        mapService.createMap(mapRequest);
+
+        // 같은 키로 동시에 시작해도 대회는 하나
+        List<TournamentResponse> started = runConcurrently(() ->
+                tournamentCommandService.startTournament(new TournamentStartRequest(), prefix + "-start"));
+        assertThat(started).hasSize(THREADS);
+        Long tournamentId = started.get(0).getId();
+        assertThat(started).extracting(TournamentResponse::getId).containsOnly(tournamentId);
+
+        int rounds = 0;
+        AtomicInteger rejected = new AtomicInteger();
+        TournamentResponse current = tournamentService.getCurrentTournament();
+        while ("IN_PROGRESS".equals(current.getStatus())) {
+            int round = current.getCurrentGame().getRound();
+            GameResultRequest request = new GameResultRequest();
+            request.setWinnerId(current.getCurrentGame().getPlayer1().getId());
+            request.setRound(round);
+
+            // 절반은 같은 Idempotency-Key로 재시도, 절반은 키 없이 라운드만 지정한 중복 클릭
+            AtomicInteger turn = new AtomicInteger();
+            List<TournamentResponse> responses = runConcurrently(() -> {
+                try {
+                    return turn.getAndIncrement() % 2 == 0
+                            ? tournamentCommandService.recordGameResult(null, request, prefix + "-round-" + round)
+                            : tournamentCommandService.recordGameResult(null, request, null);
+                } catch (BusinessException e) {
+                    rejected.incrementAndGet();
+                    return null;
+                }
+            });
+            rounds++;
+
+            List<GameLog> recorded = finishedGames(tournamentId);
+            assertThat(recorded).hasSize(rounds);
+            assertThat(responses.stream().filter(response -> response != null).count()).isGreaterThan(0);
+
+            current = tournamentService.getCurrentTournament();
+            assertThat(current.getPreviousGames()).hasSize(rounds);
+        }
+
+        List<GameLog> gameLogs = gameLogRepository.findByTournamentIdOrderByRoundAsc(tournamentId);
+        assertThat(gameLogs).extracting(GameLog::getRound)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, rounds).boxed().toList());
+        assertThat(gameLogs).allMatch(game -> game.getWinner() != null);
+        assertThat(tournamentRepository.findById(tournamentId).orElseThrow().getStatus())
+                .isEqualTo(Tournament.Status.FINISHED);
+        // 키 없는 중복 제출 중 먼저 처리되지 못한 요청은 라운드 불일치로 거부됨
+        assertThat(rejected.get()).isGreaterThan(0);
+    }
+
+    @Test
+    void parallelTournamentsProgressIndependently() throws Exception {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        List<Long> playerIds = new ArrayList<>();
+        for (int i = 0; i < THREADS * 4; i++) {
+            playerIds.add(userRepository.save(User.builder()
+                    .name("bracket" + i)
+                    .nickname(prefix + "-" + i)
+                    .password("1234")
+                    .race("프로토스")
+                    .build()).getId());
+        }
+        MapCreateRequest mapRequest = new MapCreateRequest();
+        mapRequest.setName(prefix + "-map");
+        mapService.createMap(mapRequest);
+
+        // 참가자를 나눠 대회 THREADS개를 동시에 시작하고, 각 대회를 서로 다른 스레드에서 끝까지 진행
+        AtomicInteger bracket = new AtomicInteger();
+        List<Long> tournamentIds = runConcurrently(() -> {
+            int index = bracket.getAndIncrement();
+            TournamentStartRequest request = new TournamentStartRequest();
+            request.setName(prefix + "-" + index);
+            request.setPlayerIds(playerIds.subList(index * 4, index * 4 + 4));
+            Long tournamentId = tournamentCommandService.startTournament(request, null).getId();
+
+            TournamentResponse current = tournamentService.getTournament(tournamentId);
+            while ("IN_PROGRESS".equals(current.getStatus())) {
+                GameResultRequest result = new GameResultRequest();
+                result.setWinnerId(current.getCurrentGame().getPlayer2().getId());
+                result.setRound(current.getCurrentGame().getRound());
+                current = tournamentCommandService.recordGameResult(tournamentId, result, null);
+            }
+            return tournamentId;
+        });
+
+        assertThat(tournamentIds).doesNotHaveDuplicates();
+        for (Long tournamentId : tournamentIds) {
+            assertThat(finishedGames(tournamentId)).extracting(GameLog::getRound).containsExactly(1, 2, 3);
+            assertThat(tournamentService.getTournament(tournamentId).getStatus()).isEqualTo("FINISHED");
+        }
+    }
+
+    @Test
+    void parallelUnkeyedResultSubmissionsRecordOnlyOnce() throws Exception {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        List<Long> playerIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            playerIds.add(userRepository.save(User.builder()
+                    .name("click" + i)
+                    .nickname(prefix + "-" + i)
+                    .password("1234")
+                    .race("테란")
+                    .build()).getId());
+        }
+        MapCreateRequest mapRequest = new MapCreateRequest();
+        mapRequest.setName(prefix + "-map");
+        mapService.createMap(mapRequest);
+
+        TournamentStartRequest request = new TournamentStartRequest();
+        request.setName(prefix);
+        request.setPlayerIds(playerIds);
+        TournamentResponse current = tournamentCommandService.startTournament(request, null);
+        Long tournamentId = current.getId();
+        Long winnerId = current.getCurrentGame().getPlayer1().getId();
+
+        // 라운드도 Idempotency-Key도 없는 기존 클라이언트의 연타는 모두 400으로 거부
+        String unkeyed = "{\"winnerId\": " + winnerId + "}";
+        List<Integer> statuses = runConcurrently(() -> submitResult(unkeyed));
+        assertThat(statuses).containsOnly(400);
+        assertThat(finishedGames(tournamentId)).isEmpty();
+
+        // 라운드만 보낸 연타는 하나만 반영되고 나머지는 라운드 불일치로 400
+        String withRound = "{\"winnerId\": " + winnerId + ", \"round\": " + current.getCurrentGame().getRound() + "}";
+        statuses = runConcurrently(() -> submitResult(withRound));
+        assertThat(statuses).filteredOn(status -> status == 200).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status == 400).hasSize(THREADS - 1);
+        assertThat(finishedGames(tournamentId)).hasSize(1);
+
+        // 다른 테스트가 전체 참가자로 대회를 시작할 수 있도록 끝까지 진행
+        current = tournamentService.getTournament(tournamentId);
+        while ("IN_PROGRESS".equals(current.getStatus())) {
+            GameResultRequest result = new GameResultRequest();
+            result.setWinnerId(current.getCurrentGame().getPlayer1().getId());
+            result.setRound(current.getCurrentGame().getRound());
+            current = tournamentCommandService.recordGameResult(tournamentId, result, null);
+        }
+    }
+
+    private int submitResult(String body) throws Exception {
+        return mockMvc.perform(post("/api/v1/games/result")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse().getStatus();
+    }
+
+    private List<GameLog> finishedGames(Long tournamentId) {
+        return gameLogRepository.findByTournamentIdOrderByRoundAsc(tournamentId).stream()
+                .filter(game -> game.getWinner() != null)
+                .collect(Collectors.toList());
+    }
+
+    private <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                go.await();
+                return task.call();
+            }));
+        }
+        ready.await();
+        go.countDown();
+
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+}
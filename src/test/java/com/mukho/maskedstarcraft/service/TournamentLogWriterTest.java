@@ -0,0 +1,94 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.mukho.maskedstarcraft.entity.GameLog;
+import com.mukho.maskedstarcraft.repository.GameLogRepository;
+import com.mukho.maskedstarcraft.repository.MapRepository;
+import com.mukho.maskedstarcraft.repository.TournamentRepository;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TournamentLogWriterTest {
+
+    private static final Pattern GAME_ROW = Pattern.compile("\\d+\\s+.*연승\n");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MapRepository mapRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private GameLogRepository gameLogRepository;
+
+    @Autowired
+    private TournamentSummaryBackfill tournamentSummaryBackfill;
+
+    @Autowired
+    private TournamentLogWriter tournamentLogWriter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void gameRowsAreWrittenWhileTheQueryIsStreamed() {
+        int games = 40;
+        Long tournamentId = new FinishedTournaments(userRepository, mapRepository, tournamentRepository,
+                gameLogRepository, tournamentSummaryBackfill).create(games);
+
+        // 경기 행이 쓰일 때마다 영속성 컨텍스트에 남아 있는 경기 수를 기록
+        List<Long> managedGamesPerRow = new ArrayList<>();
+        StringWriter text = new StringWriter();
+        Writer out = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                String chunk = new String(buffer, offset, length);
+                if (GAME_ROW.matcher(chunk).matches()) {
+                    managedGamesPerRow.add(managedGameLogs());
+                }
+                text.write(chunk);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        tournamentLogWriter.write(tournamentId, out);
+
+        // 한 경기씩 읽어 바로 쓰고 버리므로 컨텍스트에는 지금 쓰는 경기 하나만 있다
+        assertThat(managedGamesPerRow).hasSize(games);
+        assertThat(managedGamesPerRow).allMatch(count -> count <= 1);
+        assertThat(text.toString()).contains("총 경기 수: " + games + "경기");
+    }
+
+    private long managedGameLogs() {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityKeys().stream()
+                .filter(key -> ((EntityKey) key).getEntityName().equals(GameLog.class.getName()))
+                .count();
+    }
+}
@@ -0,0 +1,161 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.mukho.maskedstarcraft.config.SqlStatementBudgetFilter;
+import com.mukho.maskedstarcraft.config.SqlStatementBudgets;
+import com.mukho.maskedstarcraft.dto.request.GameResultRequest;
+import com.mukho.maskedstarcraft.dto.request.MapCreateRequest;
+import com.mukho.maskedstarcraft.dto.request.TournamentStartRequest;
+import com.mukho.maskedstarcraft.dto.response.TournamentResponse;
+import com.mukho.maskedstarcraft.entity.User;
+import com.mukho.maskedstarcraft.repository.GameLogRepository;
+import com.mukho.maskedstarcraft.repository.MapRepository;
+import com.mukho.maskedstarcraft.repository.TournamentRepository;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TournamentQueryBudgetTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MapRepository mapRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private GameLogRepository gameLogRepository;
+
+    @Autowired
+    private LogService logService;
+
+    @Autowired
+    private TournamentStateEngine tournamentStateEngine;
+
+    @Autowired
+    private TournamentSummaryBackfill tournamentSummaryBackfill;
+
+    @Autowired
+    private MapService mapService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private TournamentCommandService tournamentCommandService;
+
+    @Autowired
+    private SqlStatementBudgetFilter sqlStatementBudgetFilter;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void tournamentLogIsBuiltWithConstantStatements() throws Exception {
+        Long smallTournamentId = createFinishedTournament(3);
+        Long largeTournamentId = createFinishedTournament(30);
+
+        long smallStatements = countStatements(() -> logService.getTournamentLog(smallTournamentId));
+        long largeStatements = countStatements(() -> logService.getTournamentLog(largeTournamentId));
+
+        assertThat(largeStatements).isEqualTo(smallStatements);
+        assertThat(largeStatements).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void tournamentStateIsRebuiltWithConstantStatements() throws Exception {
+        createFinishedTournament(30);
+
+        long statements = countStatements(() -> tournamentStateEngine.rebuild());
+
+        // 현재 대회 조회 + (최근 종료 대회 또는 참가자 조회) + 경기 로그 조회
+        assertThat(statements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void tournamentLogEndpointStaysWithinBudget() throws Exception {
+        Long smallTournamentId = createFinishedTournament(3);
+        Long largeTournamentId = createFinishedTournament(30);
+
+        long smallStatements = SqlStatementBudgets.countStatements(() -> SqlStatementBudgets.performWithinBudget(
+                mockMvc, sqlStatementBudgetFilter, get("/api/v1/logs/tournaments/{id}", smallTournamentId)));
+        long largeStatements = SqlStatementBudgets.countStatements(() -> SqlStatementBudgets.performWithinBudget(
+                mockMvc, sqlStatementBudgetFilter, get("/api/v1/logs/tournaments/{id}", largeTournamentId)));
+
+        // 경기 수와 무관하게 같은 수의 문
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    @Test
+    void tournamentEndpointsStayWithinBudget() throws Exception {
+        Long tournamentId = startTournament(4);
+
+        // 결과 입력 직후(응답 캐시 없음)와 캐시된 응답 모두 예산 안
+        TournamentResponse current = tournamentService.getTournament(tournamentId);
+        while ("IN_PROGRESS".equals(current.getStatus())) {
+            for (int i = 0; i < 2; i++) {
+                MvcResult result = SqlStatementBudgets.performWithinBudget(mockMvc, sqlStatementBudgetFilter,
+                        get("/api/v1/tournaments/{id}", tournamentId));
+                assertThat(result.getResponse().getStatus()).isEqualTo(200);
+                SqlStatementBudgets.performWithinBudget(mockMvc, sqlStatementBudgetFilter,
+                        get("/api/v1/tournaments/current"));
+            }
+
+            // 다른 테스트가 전체 참가자로 대회를 시작할 수 있도록 끝까지 진행
+            GameResultRequest result = new GameResultRequest();
+            result.setWinnerId(current.getCurrentGame().getPlayer1().getId());
+            result.setRound(current.getCurrentGame().getRound());
+            current = tournamentCommandService.recordGameResult(tournamentId, result, null);
+        }
+    }
+
+    private long countStatements(SqlStatementBudgets.Action action) throws Exception {
+        return SqlStatementBudgets.countStatements(action);
+    }
+
+    private Long startTournament(int players) {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        List<Long> playerIds = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            playerIds.add(userRepository.save(User.builder()
+                    .name("budget" + i)
+                    .nickname(prefix + "-" + i)
+                    .password("1234")
+                    .race("저그")
+                    .build()).getId());
+        }
+        MapCreateRequest mapRequest = new MapCreateRequest();
+        mapRequest.setName(prefix + "-map");
+        mapService.createMap(mapRequest);
+
+        TournamentStartRequest request = new TournamentStartRequest();
+        request.setName(prefix);
+        request.setPlayerIds(playerIds);
+        return tournamentCommandService.startTournament(request, null).getId();
+    }
+
+    private Long createFinishedTournament(int games) {
+        return new FinishedTournaments(userRepository, mapRepository, tournamentRepository, gameLogRepository,
+                tournamentSummaryBackfill).create(games);
+    }
+}
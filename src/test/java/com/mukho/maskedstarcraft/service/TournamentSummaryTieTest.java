@@ -0,0 +1,88 @@
+package com.mukho.maskedstarcraft.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.mukho.maskedstarcraft.dto.request.GameResultRequest;
+import com.mukho.maskedstarcraft.dto.request.MapCreateRequest;
+import com.mukho.maskedstarcraft.dto.request.TournamentStartRequest;
+import com.mukho.maskedstarcraft.dto.response.TournamentResponse;
+import com.mukho.maskedstarcraft.entity.TournamentSummary;
+import com.mukho.maskedstarcraft.entity.User;
+import com.mukho.maskedstarcraft.repository.TournamentSummaryRepository;
+import com.mukho.maskedstarcraft.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TournamentSummaryTieTest {
+
+    private static final int PLAYERS = 201;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MapService mapService;
+
+    @Autowired
+    private TournamentCommandService tournamentCommandService;
+
+    @Autowired
+    private TournamentSummaryRepository tournamentSummaryRepository;
+
+    @Test
+    void tournamentWithManyPlayersTiedAtStreakOneFinishes() {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        List<User> players = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            players.add(userRepository.save(User.builder()
+                    .name("tie" + i)
+                    .nickname(prefix + "-" + i)
+                    .password("1234")
+                    .race("테란")
+                    .build()));
+        }
+        MapCreateRequest mapRequest = new MapCreateRequest();
+        mapRequest.setName(prefix + "-map");
+        mapService.createMap(mapRequest);
+
+        try {
+            TournamentStartRequest request = new TournamentStartRequest();
+            request.setName(prefix);
+            request.setPlayerIds(players.stream().map(User::getId).toList());
+            TournamentResponse current = tournamentCommandService.startTournament(request, null);
+            Long tournamentId = current.getId();
+
+            // 매 경기 도전자가 이겨 모든 승자가 연승 1로 동률
+            Long kingId = null;
+            while ("IN_PROGRESS".equals(current.getStatus())) {
+                TournamentResponse.CurrentGameResponse game = current.getCurrentGame();
+                Long challengerId = game.getPlayer1().getId().equals(kingId)
+                        ? game.getPlayer2().getId() : game.getPlayer1().getId();
+                GameResultRequest result = new GameResultRequest();
+                result.setWinnerId(challengerId);
+                result.setRound(game.getRound());
+                current = tournamentCommandService.recordGameResult(tournamentId, result, null);
+                kingId = challengerId;
+            }
+
+            TournamentSummary summary = tournamentSummaryRepository.findWithWinnerByTournamentId(tournamentId)
+                    .orElseThrow();
+            assertThat(summary.getMaxStreak()).isEqualTo(1);
+            assertThat(summary.getMaxStreakPlayerIdList()).hasSize(PLAYERS - 1);
+            assertThat(summary.getMaxStreakPlayerIds().length()).isGreaterThan(500);
+        } finally {
+            // 다른 테스트의 전체 참가자 대회가 커지지 않도록 정리
+            players.forEach(player -> player.setIsDeleted(true));
+            userRepository.saveAll(players);
+        }
+    }
+}